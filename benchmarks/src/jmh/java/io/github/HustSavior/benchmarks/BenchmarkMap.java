@@ -0,0 +1,103 @@
+package io.github.HustSavior.benchmarks;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TmxMapLoader;
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.math.Vector2;
+
+import io.github.HustSavior.collision.CollisionWorld;
+import io.github.HustSavior.entities.Player;
+import io.github.HustSavior.simulation.GameSimulation;
+import io.github.HustSavior.utils.NullGL20;
+
+/**
+ * Shared fixture: the game's map, loaded once per benchmark JVM under the
+ * headless backend, plus helpers to place a player and walk it across the map.
+ */
+public final class BenchmarkMap {
+    public static final float TICK = 1/60f;
+
+    // Player walking speed in pixels per tick, see Player.MOVEMENT_SPEED
+    private static final float WALK_STEP = 70f / 60f;
+    private static final float PLAYER_SIZE = 32f;
+
+    private static TiledMap map;
+
+    private BenchmarkMap() {
+    }
+
+    public static synchronized TiledMap get() {
+        if (map == null) {
+            HeadlessApplicationConfiguration configuration = new HeadlessApplicationConfiguration();
+            configuration.updatesPerSecond = -1; // Only Gdx.files and the natives are needed, never render
+            new HeadlessApplication(new ApplicationAdapter() {}, configuration);
+            Gdx.gl = Gdx.gl20 = NullGL20.create();
+            map = new TmxMapLoader().load(GameSimulation.MAP_PATH);
+        }
+        return map;
+    }
+
+    public static float getWidth() {
+        return get().getProperties().get("width", Integer.class) * get().getProperties().get("tilewidth", Integer.class);
+    }
+
+    public static float getHeight() {
+        return get().getProperties().get("height", Integer.class) * get().getProperties().get("tileheight", Integer.class);
+    }
+
+    /** A player without a Box2D world or a screen, standing at the pixel position. */
+    public static Player createPlayer(float x, float y) {
+        return new Player(new Sprite(new Texture("sprites/WalkRight1.png")), x, y, null, null, get());
+    }
+
+    /**
+     * Positions (pixels, x and y interleaved) of a player walking at game speed
+     * between random waypoints on the map, one entry per tick. Walls are ignored,
+     * so the walk also crosses buildings and ground level changes.
+     */
+    public static float[] walk(int ticks, long seed) {
+        RandomXS128 random = new RandomXS128(seed);
+        float width = getWidth();
+        float height = getHeight();
+        float[] positions = new float[ticks * 2];
+        Vector2 position = new Vector2(random.nextFloat() * width, random.nextFloat() * height);
+        Vector2 waypoint = new Vector2(position);
+        Vector2 step = new Vector2();
+        for (int i = 0; i < ticks; i++) {
+            if (position.dst2(waypoint) <= WALK_STEP * WALK_STEP) {
+                waypoint.set(random.nextFloat() * width, random.nextFloat() * height);
+            }
+            position.add(step.set(waypoint).sub(position).nor().scl(WALK_STEP));
+            positions[i * 2] = position.x;
+            positions[i * 2 + 1] = position.y;
+        }
+        return positions;
+    }
+
+    /** Like {@link #walk(int, long)} but keeps only positions where a player would not overlap a wall. */
+    public static float[] openPositions(int count, long seed) {
+        CollisionWorld walls = CollisionWorld.get(get());
+        float[] positions = new float[count * 2];
+        int found = 0;
+        long walkSeed = seed;
+        while (found < count) {
+            float[] walk = walk(count, walkSeed++);
+            for (int i = 0; i < count && found < count; i++) {
+                float x = walk[i * 2];
+                float y = walk[i * 2 + 1];
+                if (!walls.overlapsPixels(x - PLAYER_SIZE / 2, y - PLAYER_SIZE / 2, PLAYER_SIZE, PLAYER_SIZE)) {
+                    positions[found * 2] = x;
+                    positions[found * 2 + 1] = y;
+                    found++;
+                }
+            }
+        }
+        return positions;
+    }
+}
@@ -0,0 +1,47 @@
+package io.github.HustSavior.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.math.Vector2;
+
+import io.github.HustSavior.utils.transparency.BuildingTransparencyManager;
+
+/** Building fades for a player walking in and out of buildings, one tick per call. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+public class BuildingTransparencyBenchmark {
+    private static final int STEPS = 8192;
+
+    private BuildingTransparencyManager manager;
+    private final Vector2 position = new Vector2();
+    private float[] walk;
+    private int next;
+
+    @Setup
+    public void setup() {
+        TiledMap map = BenchmarkMap.get();
+        manager = new BuildingTransparencyManager(null, map,
+            map.getLayers().get("D3"), map.getLayers().get("D5"), map.getLayers().get("D35"),
+            map.getLayers().get("Library"), map.getLayers().get("Roof"), map.getLayers().get("Parking"));
+        walk = BenchmarkMap.walk(STEPS, 3);
+    }
+
+    @Benchmark
+    public void update() {
+        int i = next;
+        next = (next + 1) % STEPS;
+        manager.update(position.set(walk[i * 2], walk[i * 2 + 1]));
+    }
+}
@@ -0,0 +1,86 @@
+package io.github.HustSavior.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.PooledEngine;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.math.MathUtils;
+
+import io.github.HustSavior.bullet.BulletManager;
+import io.github.HustSavior.collision.CollisionWorld;
+import io.github.HustSavior.ecs.Families;
+import io.github.HustSavior.ecs.Mappers;
+import io.github.HustSavior.ecs.components.TransformComponent;
+import io.github.HustSavior.ecs.systems.BulletSystem;
+import io.github.HustSavior.entities.Player;
+
+/**
+ * One bullet tick with 1000 bullets in flight: the cooldown update plus the
+ * BulletSystem sweep and bounce against the map walls.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+public class BulletBenchmark {
+    private static final int BULLETS = 1000;
+    private static final int SHOOT_POSITIONS = 256;
+
+    private PooledEngine engine;
+    private BulletManager bulletManager;
+    private ImmutableArray<Entity> bullets;
+    private Player player;
+    private float[] shootPositions;
+    private int nextShot;
+    private float mapWidth;
+    private float mapHeight;
+
+    @Setup
+    public void setup() {
+        MathUtils.random.setSeed(5);
+        engine = new PooledEngine();
+        engine.addSystem(new BulletSystem(CollisionWorld.get(BenchmarkMap.get())));
+        shootPositions = BenchmarkMap.openPositions(SHOOT_POSITIONS, 5);
+        player = BenchmarkMap.createPlayer(shootPositions[0], shootPositions[1]);
+        bulletManager = new BulletManager(player, engine);
+        bullets = engine.getEntitiesFor(Families.BULLETS);
+        mapWidth = BenchmarkMap.getWidth();
+        mapHeight = BenchmarkMap.getHeight();
+    }
+
+    // Outside the measurement: bullets are only removed by walls, so drop the ones that
+    // left the map and shoot from open spots until 1000 are in flight again
+    @Setup(Level.Invocation)
+    public void refill() {
+        for (int i = bullets.size() - 1; i >= 0; i--) {
+            TransformComponent transform = Mappers.TRANSFORM.get(bullets.get(i));
+            if (transform.x < 0 || transform.y < 0 || transform.x > mapWidth || transform.y > mapHeight) {
+                engine.removeEntity(bullets.get(i));
+            }
+        }
+        while (bullets.size() < BULLETS) {
+            player.setWorldPosition(shootPositions[nextShot * 2], shootPositions[nextShot * 2 + 1]);
+            nextShot = (nextShot + 1) % SHOOT_POSITIONS;
+            bulletManager.update(1f); // Past the cooldown
+            bulletManager.shootBullet();
+        }
+    }
+
+    @Benchmark
+    public int update() {
+        bulletManager.update(BenchmarkMap.TICK);
+        engine.update(BenchmarkMap.TICK);
+        return bullets.size();
+    }
+}
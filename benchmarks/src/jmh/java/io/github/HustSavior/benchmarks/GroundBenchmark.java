@@ -0,0 +1,56 @@
+package io.github.HustSavior.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.badlogic.gdx.math.Vector2;
+
+import io.github.HustSavior.map.HighgroundManager;
+import io.github.HustSavior.map.LowgroundManager;
+
+/**
+ * Ground level lookups along a walk across the map, one position per call like
+ * one player tick. The walk enters and leaves high and low ground, so both the
+ * steady state and the transitions are measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+public class GroundBenchmark {
+    private static final int STEPS = 8192;
+
+    private HighgroundManager highground;
+    private LowgroundManager lowground;
+    private float[] walk;
+    private int next;
+
+    @Setup
+    public void setup() {
+        highground = new HighgroundManager(BenchmarkMap.get());
+        lowground = new LowgroundManager(BenchmarkMap.get());
+        walk = BenchmarkMap.walk(STEPS, 2);
+    }
+
+    @Benchmark
+    public Vector2 highgroundStepPosition() {
+        int i = next;
+        next = (next + 1) % STEPS;
+        return highground.getStepPosition(walk[i * 2], walk[i * 2 + 1]);
+    }
+
+    @Benchmark
+    public Vector2 lowgroundUpdatePosition() {
+        int i = next;
+        next = (next + 1) % STEPS;
+        return lowground.updatePosition(walk[i * 2], walk[i * 2 + 1]);
+    }
+}
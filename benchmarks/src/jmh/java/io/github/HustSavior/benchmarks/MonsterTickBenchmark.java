@@ -0,0 +1,87 @@
+package io.github.HustSavior.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.badlogic.ashley.core.PooledEngine;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.math.MathUtils;
+
+import io.github.HustSavior.collision.CollisionWorld;
+import io.github.HustSavior.ecs.systems.MonsterAISystem;
+import io.github.HustSavior.ecs.systems.MonsterAnimationSystem;
+import io.github.HustSavior.ecs.systems.MovementSystem;
+import io.github.HustSavior.entities.Player;
+import io.github.HustSavior.pathfinding.FlowField;
+import io.github.HustSavior.spawner.MonsterSpawnManager;
+
+/**
+ * One monster tick as GameSimulation runs it: the neighbour hash rebuild, then
+ * AI, movement and animation. Monsters start scattered around the player and
+ * close in over the iteration; every iteration starts from the same scatter.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+public class MonsterTickBenchmark {
+    private static final float SCATTER_RADIUS = 600f; // Pixels around the player, about one screen
+    private static final float MONSTER_SIZE = 32f;
+
+    @Param({"10", "100", "1000"})
+    public int monsters;
+
+    private TiledMap map;
+    private CollisionWorld walls;
+    private PooledEngine engine;
+    private MonsterSpawnManager spawnManager;
+    private Player player;
+
+    @Setup
+    public void setup() {
+        map = BenchmarkMap.get();
+        walls = CollisionWorld.get(map);
+        float[] start = BenchmarkMap.openPositions(1, 4);
+        player = BenchmarkMap.createPlayer(start[0], start[1]);
+        player.setWorldPosition(start[0], start[1]);
+        player.activateShield(); // Player.update never runs, so it stays up and the player cannot die
+
+        engine = new PooledEngine();
+        spawnManager = new MonsterSpawnManager(player, engine, map);
+        engine.addSystem(new MonsterAISystem(player, new FlowField(map), walls, spawnManager.getMonsterHash()));
+        engine.addSystem(new MovementSystem());
+        engine.addSystem(new MonsterAnimationSystem());
+    }
+
+    @Setup(Level.Iteration)
+    public void scatter() {
+        engine.removeAllEntities();
+        MathUtils.random.setSeed(monsters);
+        float centerX = player.getPosition().x;
+        float centerY = player.getPosition().y;
+        int placed = 0;
+        while (placed < monsters) {
+            float x = centerX + MathUtils.random(-SCATTER_RADIUS, SCATTER_RADIUS);
+            float y = centerY + MathUtils.random(-SCATTER_RADIUS, SCATTER_RADIUS);
+            if (walls.overlapsPixels(x - MONSTER_SIZE / 2, y - MONSTER_SIZE / 2, MONSTER_SIZE, MONSTER_SIZE)) continue;
+            spawnManager.createMonster(x, y);
+            placed++;
+        }
+    }
+
+    @Benchmark
+    public void tick() {
+        spawnManager.rebuildMonsterHash();
+        engine.update(BenchmarkMap.TICK);
+    }
+}
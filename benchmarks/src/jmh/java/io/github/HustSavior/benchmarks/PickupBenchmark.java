@@ -0,0 +1,68 @@
+package io.github.HustSavior.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.badlogic.ashley.core.PooledEngine;
+import com.badlogic.gdx.maps.MapObject;
+import com.badlogic.gdx.maps.objects.RectangleMapObject;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.math.Rectangle;
+
+import io.github.HustSavior.ecs.systems.PickupSystem;
+import io.github.HustSavior.entities.Player;
+import io.github.HustSavior.items.AssetSetter;
+
+/**
+ * Item visibility and pickup checks for every item on the map while the player
+ * walks around. Pickups are ignored, so the item set never changes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+public class PickupBenchmark {
+    private static final int STEPS = 8192;
+    private static final int ITEM_KINDS = 5; // AssetSetter ids 1 to 5
+
+    private PooledEngine engine;
+    private Player player;
+    private float[] walk;
+    private int next;
+
+    @Setup
+    public void setup() {
+        TiledMap map = BenchmarkMap.get();
+        walk = BenchmarkMap.walk(STEPS, 6);
+        player = BenchmarkMap.createPlayer(walk[0], walk[1]);
+        engine = new PooledEngine();
+        engine.addSystem(new PickupSystem(player, map, (entity, item) -> { }));
+
+        // An item on every spawn rectangle, cycling through the kinds
+        AssetSetter assetSetter = new AssetSetter(engine);
+        int id = 0;
+        for (MapObject object : map.getLayers().get("spawning_layer").getObjects()) {
+            if (object instanceof RectangleMapObject) {
+                Rectangle rect = ((RectangleMapObject) object).getRectangle();
+                assetSetter.createObject((int) rect.x, (int) rect.y, id % ITEM_KINDS + 1);
+                id++;
+            }
+        }
+    }
+
+    @Benchmark
+    public void update() {
+        int i = next;
+        next = (next + 1) % STEPS;
+        player.setWorldPosition(walk[i * 2], walk[i * 2 + 1]);
+        engine.update(BenchmarkMap.TICK);
+    }
+}
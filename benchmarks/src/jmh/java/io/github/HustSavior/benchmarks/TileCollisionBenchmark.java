@@ -0,0 +1,48 @@
+package io.github.HustSavior.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.badlogic.gdx.math.Rectangle;
+
+import io.github.HustSavior.collision.TileCollision;
+
+/** Player-sized wall checks, as Player.update makes them every tick. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+public class TileCollisionBenchmark {
+    private static final int BOXES = 4096;
+    private static final float PPM = 100f;
+    private static final float SIZE = 32f / PPM;
+
+    private TileCollision tileCollision;
+    private Rectangle[] boxes;
+    private int next;
+
+    @Setup
+    public void setup() {
+        tileCollision = new TileCollision(BenchmarkMap.get());
+        float[] walk = BenchmarkMap.walk(BOXES, 1);
+        boxes = new Rectangle[BOXES];
+        for (int i = 0; i < BOXES; i++) {
+            boxes[i] = new Rectangle(walk[i * 2] / PPM - SIZE / 2, walk[i * 2 + 1] / PPM - SIZE / 2, SIZE, SIZE);
+        }
+    }
+
+    @Benchmark
+    public boolean collidesWith() {
+        Rectangle box = boxes[next];
+        next = (next + 1) % BOXES;
+        return tileCollision.collidesWith(box);
+    }
+}
@@ -4,19 +4,31 @@ import com.badlogic.gdx.Game;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 
+import io.github.HustSavior.assets.GameAssets;
+import io.github.HustSavior.entities.MonsterAnimationRegistry;
+import io.github.HustSavior.map.LevelFile;
 import io.github.HustSavior.screen.SplashScreen;
+import io.github.HustSavior.simulation.GameSimulation;
 import io.github.HustSavior.utils.ResolutionManager;
+import io.github.HustSavior.utils.log.GameLog;
 
 
 /** {@link com.badlogic.gdx.ApplicationListener} implementation shared by all platforms. */
 public class HustSavior extends Game {
+    // Per frame, so the splash and menu keep animating while the assets load
+    private static final int PRELOAD_MILLIS = 8;
+
     public SpriteBatch batch;
     private Texture image;
     private Play map;
+    private boolean preloaded;
 
     @Override
     public void create() {
 
+        // Decoded while the splash and menu are up, GameMap picks it up
+        LevelFile.prefetch(GameSimulation.MAP_PATH);
+        GameAssets.getInstance().queueManifest();
         batch = new SpriteBatch();
         ResolutionManager.getInstance();
         setScreen(new SplashScreen(this));
@@ -35,12 +47,19 @@ public class HustSavior extends Game {
 
     @Override
     public void render() {
+        if (!preloaded && GameAssets.getInstance().update(PRELOAD_MILLIS)) {
+            MonsterAnimationRegistry.getInstance().prepare();
+            preloaded = true;
+        }
         super.render();
     }
     // dispose to save resources
     @Override
     public void dispose() {
         super.dispose();
+        MonsterAnimationRegistry.getInstance().dispose();
+        GameAssets.getInstance().dispose();
+        GameLog.flush();
     }
 
     @Override
@@ -1,7 +1,8 @@
 package io.github.HustSavior;
 
-import java.util.ArrayList;
-
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.PooledEngine;
+import com.badlogic.ashley.utils.ImmutableArray;
 import com.badlogic.gdx.Application;
 import com.badlogic.gdx.Game;
 import com.badlogic.gdx.Gdx;
@@ -11,113 +12,85 @@ import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.*;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.maps.MapLayer;
 import com.badlogic.gdx.maps.MapObject;
 import com.badlogic.gdx.maps.objects.RectangleMapObject;
-import com.badlogic.gdx.maps.tiled.TiledMap;
-import com.badlogic.gdx.maps.tiled.TmxMapLoader;
-import com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer;
-import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.physics.box2d.Body;
-import com.badlogic.gdx.physics.box2d.Contact;
-import com.badlogic.gdx.physics.box2d.Fixture;
-import com.badlogic.gdx.physics.box2d.World;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
-import com.badlogic.gdx.utils.Array;
 
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 
-import io.github.HustSavior.bullet.Bullet;
-import io.github.HustSavior.bullet.BulletManager;
-import io.github.HustSavior.collision.CollisionBodyFactory;
-import io.github.HustSavior.collision.CollisionListener;
+import io.github.HustSavior.assets.GameAssets;
 import io.github.HustSavior.dialog.DialogManager;
-import io.github.HustSavior.entities.AbstractMonster;
+import io.github.HustSavior.ecs.systems.BulletRenderSystem;
+import io.github.HustSavior.ecs.systems.MonsterRenderSystem;
+import io.github.HustSavior.ecs.systems.PickupRenderSystem;
 import io.github.HustSavior.entities.Player;
 
-import io.github.HustSavior.handlers.CollisionHandler;
 import io.github.HustSavior.input.InputHandler;
-import io.github.HustSavior.items.AssetSetter;
-import io.github.HustSavior.items.HPPotion;
 import io.github.HustSavior.items.Item;
-import io.github.HustSavior.items.Shield;
 import io.github.HustSavior.map.GameMap;
-import io.github.HustSavior.map.HighgroundManager;
-import io.github.HustSavior.map.LowgroundManager;
+import io.github.HustSavior.map.TileLayerCache;
 import io.github.HustSavior.screen.DeathScreen;
-import io.github.HustSavior.skills.Slash;
+import io.github.HustSavior.simulation.GameSimulation;
 import io.github.HustSavior.sound.MusicPlayer;
-import io.github.HustSavior.spawn.SpawnManager;
-import io.github.HustSavior.spawner.MonsterSpawnManager;
+import io.github.HustSavior.ui.AllocationOverlay;
 import io.github.HustSavior.ui.GameTimer;
 import io.github.HustSavior.ui.InventoryTray;
 import io.github.HustSavior.ui.PauseButton;
+import io.github.HustSavior.utils.AllocationProfiler;
 import io.github.HustSavior.utils.GameConfig;
 import io.github.HustSavior.utils.transparency.BuildingTransparencyManager;
 import io.github.HustSavior.utils.transparency.TreeTransparencyManager;
 import io.github.HustSavior.collision.TileCollision;
-import io.github.HustSavior.skills.SkillManager;
-import io.github.HustSavior.entities.AbstractMonster.MonsterState;
-public class Play implements Screen {
+public class Play implements Screen, GameSimulation.Listener {
     private static final float PPM = GameConfig.PPM;
 //    private static final float INITIAL_ZOOM = -1.2f;
     private static final float ZOOM_SPEED = 0.02f;
     private static final float MIN_ZOOM = 0.1f;
     private static final float MAX_ZOOM = 20f;
-    private static final float WORLD_STEP_TIME = 1 / 60f;
     private static final float WARNING_COOLDOWN_TIME = 2f; // Cooldown time in seconds
     private static final float TRANSPARENCY_UPDATE_INTERVAL = 1/30f; // Update 30 times per second
     private static final long GC_CHECK_INTERVAL = 60000; // Check every 60 seconds
-    private static final int VELOCITY_ITERATIONS = 2;  // Reduced from 3
-    private static final int POSITION_ITERATIONS = 1;
-    private static final float PHYSICS_STEP = 1/60f;
-    private static final float CLEANUP_INTERVAL = 5000f; // 5 seconds
     private static final float FIXED_TIME_STEP = 1/60f;
     private static final float MAX_FRAME_TIME = 0.25f;
-    private static final float LEVEL_UP_INTERVAL = 30f; // 30 seconds
-    private float levelUpTimer = 0f;
+    private static final float CAMERA_LERP = 0.1f; // Fraction of the distance closed per 60Hz frame
+    private static final int GROUND_LAYERS = 3; // main, map_bounds and warnings sit under the entities
 
     private final OrthographicCamera camera;
     private final Viewport viewport;
+    // Game state; this screen only draws it and owns the UI around it
+    private final GameSimulation simulation;
     private  GameMap gameMap;
     private final Player player;
-    private BulletManager bulletManager;
-    // Skill
-    private AssetSetter assetSetter;
-    private  SkillManager skillManager;
     private final InputHandler inputHandler;
-    private  World world;
 
     private Stage uiStage;
     private PauseButton pauseButton;
     private boolean isPaused = false;
     private BuildingTransparencyManager buildingTransparencyManager;
     private ShapeRenderer shapeRenderer;
-    private CollisionBodyFactory collisionBodyFactory;
-    private HighgroundManager highgroundManager;
-    private Skin skin;
 
     private Stage stage;
     private float warningCooldown = 0;
     private DialogManager dialogManager;
-    private SpawnManager spawnManager;
     private float transparencyUpdateTimer = 0;
     private TreeTransparencyManager treeTransparencyManager;
-    private LowgroundManager lowgroundManager;
     private GameTimer gameTimer;
     private InventoryTray inventoryTray;
     private TileCollision tileCollision;
 
     private Rectangle mapBounds;
+    // Scratch rectangles reused every frame
+    private final Rectangle viewBounds = new Rectangle();
+    private final Rectangle playerRect = new Rectangle();
     private MusicPlayer musicPlayer;
     private long lastVolumeCheck = 0;
     private long lastGCCheck = 0; // Add this field as well
@@ -126,8 +99,6 @@ public class Play implements Screen {
 
     private final Game game;
 
-    private CollisionHandler collisionHandler;
-
     private SpriteBatch batch;
 
     private static class ProfilerInfo {
@@ -147,48 +118,22 @@ public class Play implements Screen {
     private final ProfilerInfo profiler = new ProfilerInfo();
     private float accumulator = 0;
 
-
-    private float spawnTimer = 0;
-    private static final float SPAWN_INTERVAL = 2f;
-    private static final int SPAWN_COUNT = 2;
-
-    private static final int MAX_MONSTERS = 10;  // Limit max monsters
-    private static final float CLEANUP_DISTANCE = 1000f;  // Distance to remove monsters
-
-    private float cleanupTimer = 0;
-
-    private Array<AbstractMonster> monsters;
-
-    private MonsterSpawnManager monsterSpawnManager;
+    // Draw the simulation's entities; their update() is a no-op
+    private MonsterRenderSystem monsterRenderSystem;
+    private BulletRenderSystem bulletRenderSystem;
+    private PickupRenderSystem pickupRenderSystem;
+    // Fraction of a tick left in the accumulator, set by interpolate()
+    private float renderAlpha;
 
     private boolean isGameOver = false;
     private boolean isDisposed = false;
 
-    private static final float ITEM_SPAWN_INTERVAL = 10f; // Spawn every 10 seconds
-    private float itemSpawnTimer = 0f;
-    private Array<SpawnPoint> spawnPoints;
-
-    // Create a helper class for spawn points
-    private class SpawnPoint {
-        int x, y;
-        String type;
-        boolean isOccupied;
-
-        SpawnPoint(int x, int y, String type) {
-            this.x = x;
-            this.y = y;
-            this.type = type;
-            this.isOccupied = false;
-        }
-    }
-
-    private static final float INFECTION_TIME = 180f; // 3 minutes in seconds
-    private static final float INFECTION_DAMAGE = 10f;
-    private static final float INFECTION_TICK = 1f; // Damage every second
-    private boolean isInfected = false;
-    private float infectionTimer = 0f;
     // Declare the level label
     private Label levelLabel;
+    private int shownLevel;
+
+    private final AllocationProfiler allocationProfiler = AllocationProfiler.getInstance();
+    private AllocationOverlay allocationOverlay;
 
     public Play(Game game) {
         // Set debug level at the very start
@@ -197,28 +142,19 @@ public class Play implements Screen {
         this.game = game;
         this.batch = new SpriteBatch();
 
+        // Normally loaded behind the splash and menu already; this only waits after a quick click on Play
+        GameAssets.getInstance().finishLoading();
+
         // Initialize core components
         camera = new OrthographicCamera();
         viewport = new FitViewport(GameConfig.GAME_WIDTH, GameConfig.GAME_HEIGHT, camera);
 
-        // Initialize world and map
-        world = setupWorld();
-        collisionBodyFactory = new CollisionBodyFactory(world, PPM);
-        gameMap = new GameMap("map/map.tmx", collisionBodyFactory);
-
-        // Initialize player
-        player = new Player(
-            new Sprite(new Texture("sprites/WalkRight1.png")),
-            400,    // x coordinate
-            500,    // y coordinate
-            world,
-            game,
-            gameMap.getTiledMap()
-        );
+        // World, map, player, monsters and items
+        simulation = new GameSimulation(game, this);
+        gameMap = simulation.getGameMap();
+        player = simulation.getPlayer();
         player.setCamera(camera);
-
-        // Initialize bullet manager
-        bulletManager = new BulletManager(player, new ArrayList<>(), gameMap.getTiledMap());
+        inputHandler = simulation.getInputHandler();
 
         // Set logging level to show debug messages
         Gdx.app.setLogLevel(Application.LOG_DEBUG);
@@ -231,30 +167,13 @@ public class Play implements Screen {
         // Force viewport update immediately
         viewport.update(Gdx.graphics.getWidth(), Gdx.graphics.getHeight(), true);
 
-        // Initialize SpawnManager before loading items
-        spawnManager = new SpawnManager(gameMap.getTiledMap());
-
-        // Initialize highground manager
-        highgroundManager = new HighgroundManager(gameMap.getTiledMap());
-        // Initialize transparency manager
-        // Add tree transparency manager initialization
-        treeTransparencyManager = new TreeTransparencyManager(world, gameMap.getTiledMap());
-
-        inputHandler = new InputHandler(player, bulletManager);
-        assetSetter = new AssetSetter();
-        skillManager = new SkillManager(player,world);
-        skillManager.activateSkills(1);
-
-        // Load items after SpawnManager is initialized
-        loadItems();
-
         // Add UI stage and pause button
         uiStage = new Stage(new ScreenViewport());
         pauseButton = new PauseButton(uiStage, game, this);
         uiStage.addActor(pauseButton);
 
         // Initialize DialogManager before the input multiplexer setup
-        dialogManager = new DialogManager(uiStage, new Skin(Gdx.files.internal("UI/dialogue/dialog.json")), inputHandler);
+        dialogManager = new DialogManager(uiStage, GameAssets.getInstance().getSkin("UI/dialogue/dialog.json"), inputHandler);
 
         // Initialize stage with proper viewport
         stage = new Stage(new ScreenViewport());
@@ -275,19 +194,15 @@ public class Play implements Screen {
 
         // Initialize transparency manager with map layers
         shapeRenderer = new ShapeRenderer();
-        skin = new Skin(Gdx.files.internal("uiskin.json"));
-
-        lowgroundManager = new LowgroundManager(gameMap.getTiledMap());
-
-        Skin inventorySkin = new Skin(Gdx.files.internal("UI/itemtray/itemtray.json"));
+        Skin inventorySkin = GameAssets.getInstance().getSkin("UI/itemtray/itemtray.json");
         inventoryTray = new InventoryTray(stage, inventorySkin);
 
-        initMonsterSystem();
+        initRenderSystems();
         initializeMapBounds();
 
         // Initialize transparency managers with proper layers
         buildingTransparencyManager = new BuildingTransparencyManager(
-            world,
+            simulation.getWorld(),
             gameMap.getTiledMap(),
             gameMap.getLayer("D3"),
             gameMap.getLayer("D5"),
@@ -299,7 +214,7 @@ public class Play implements Screen {
 
         // Add tree transparency manager initialization
         treeTransparencyManager = new TreeTransparencyManager(
-            world,
+            simulation.getWorld(),
             gameMap.getTiledMap()
         );
 
@@ -310,6 +225,7 @@ public class Play implements Screen {
         labelStyle.font = font;
         labelStyle.fontColor = Color.GOLDENROD;
         levelLabel = new Label("Level: " + player.getLevel(), labelStyle);
+        shownLevel = player.getLevel();
 
         // Position the level label (e.g., top-left corner)
         levelLabel.setPosition(20, GameConfig.GAME_HEIGHT + 100); // Adjust coordinates as needed
@@ -317,14 +233,13 @@ public class Play implements Screen {
         // Add the label to the UI stage
         uiStage.addActor(levelLabel);
 
-        // monsterSpawnManager = new MonsterSpawnManager(player, monsters, camera, gameMap);
-        // MonsterPool.setInstance(monsterPool);
+        // Allocation overlay, only with -Dhustsavior.profileAllocations=true
+        if (allocationProfiler.isEnabled()) {
+            allocationOverlay = new AllocationOverlay(uiStage, allocationProfiler);
+        }
 
         // Show welcome dialog after everything is initialized
         dialogManager.showWelcomeDialog();
-
-        initItems();
-        initSpawnPoints();
     }
 
 //    private OrthographicCamera setupCamera() {
@@ -334,73 +249,9 @@ public class Play implements Screen {
 //        return cam;
 //    }
 
-    private World setupWorld() {
-        World world = new World(new Vector2(0, 0), true);
-        world.setContactListener(new CollisionListener(this));
-        return world;
-    }
-
-    public void handleBulletCollision(Contact contact) {
-        Fixture fixtureA = contact.getFixtureA();
-        Fixture fixtureB = contact.getFixtureB();
-        if (fixtureA.getBody().getUserData() instanceof Bullet) {
-            Bullet bullet = (Bullet) fixtureA.getBody().getUserData();
-            bullet.incrementCollisionCount();
-            if (fixtureB.getBody().getUserData() instanceof AbstractMonster) {
-                AbstractMonster monster = (AbstractMonster) fixtureB.getBody().getUserData();
-                boolean wasAlive = monster.isAlive();  // Check if monster was alive before damage
-                monster.takeDamage(10); // Adjust damage value as needed
-                if (wasAlive && !monster.isAlive()) {  // Check if monster died from this hit
-                    Player.addXP(monster.getBaseXP());  // Add XP when monster dies from bullet
-                }
-            }
-        } else if (fixtureB.getBody().getUserData() instanceof Bullet) {
-            Bullet bullet = (Bullet) fixtureB.getBody().getUserData();
-            bullet.incrementCollisionCount();
-            if (fixtureA.getBody().getUserData() instanceof AbstractMonster) {
-                AbstractMonster monster = (AbstractMonster) fixtureA.getBody().getUserData();
-                boolean wasAlive = monster.isAlive();
-                monster.takeDamage(10);
-                if (wasAlive && !monster.isAlive()) {
-                    Player.addXP(monster.getBaseXP());
-                }
-            }
-        }
-    }
-
-
-    public void handleSkillCollision(Contact contact) {
-        Fixture fixtureA = contact.getFixtureA();
-        Fixture fixtureB = contact.getFixtureB();
-        if (fixtureA.getBody().getUserData() instanceof Slash) {
-            if (fixtureB.getBody().getUserData() instanceof AbstractMonster) {
-                AbstractMonster monster = (AbstractMonster) fixtureB.getBody().getUserData();
-                monster.takeDamage(30); // Adjust damage value as needed
-            }
-        } else if (fixtureB.getBody().getUserData() instanceof Slash) {
-            if (fixtureA.getBody().getUserData() instanceof AbstractMonster) {
-                AbstractMonster monster = (AbstractMonster) fixtureA.getBody().getUserData();
-                monster.takeDamage(30); // Adjust damage value as needed
-            }
-        }
-    }
-
-
-    private void loadItems() {
-        assetSetter.createObject(100, 100, 1);
-        assetSetter.createObject(400, 400, 2);
-        assetSetter.createObject(300, 300, 3);
-        assetSetter.createObject(250, 250, 4);
-        assetSetter.createObject(400, 250, 5);
-    }
 
     @Override
     public void show() {
-        // Initialize basic components
-        world = setupWorld();
-        collisionBodyFactory = new CollisionBodyFactory(world, PPM);
-
-
         // Force camera position reset
         camera.position.set(500f, 150f, 0f);
         camera.zoom = 0.5f;
@@ -419,10 +270,7 @@ public class Play implements Screen {
             Gdx.app.error("Play", "Failed to initialize gameplay music", e);
         }
 
-        // Load map
-        TiledMap map = new TmxMapLoader().load("map/map.tmx");
-        player.initCollision(map);
-        tileCollision = new TileCollision(map);
+        tileCollision = new TileCollision(gameMap.getTiledMap());
     }
 
     @Override
@@ -443,59 +291,33 @@ public class Play implements Screen {
 
         if(gameMap != null) {
             if (!isPaused && !dialogManager.isDialogActive()) {
-                update(delta);
-                updateGame(delta);
-                if (monsters == null) {
-                    Gdx.app.log("Play", "Monsters array is null!");
-                    return;
+                // Fixed-step simulation: every system advances exactly once per tick,
+                // however many (or few) ticks fit into this frame
+                accumulator += Math.min(delta, MAX_FRAME_TIME);
+                while (accumulator >= FIXED_TIME_STEP && !isGameOver && !dialogManager.isDialogActive()) {
+                    tick(FIXED_TIME_STEP);
+                    accumulator -= FIXED_TIME_STEP;
                 }
-                // Debug each monster in the array
-                if(monsters != null) {
-                    for (int i = 0; i < monsters.size; i++) {
-                        AbstractMonster monster = monsters.get(i);
-                        if (monster != null) {
-
-
-                            monster.update(delta, player);
-
 
-                        } else {
-                            Gdx.app.debug("Play", "Monster[" + i + "] is null!");
-                        }
-                    }
-                }
-                // Debug spawn system
-                spawnTimer += delta;
-                if (spawnTimer >= SPAWN_INTERVAL) {
-
-                    monsterSpawnManager.update(delta);  // Make sure this is called
-                    spawnTimer = 0;
-
-                   // Debug monster count after spawn attempt
-
-                }
-
-                // Single update location for monsters
-                for (AbstractMonster monster : monsters) {
-                    if (monster != null && monster.isAlive()) {
-
-                        monster.update(delta, player);
-                    }
-                }
-
-                // Other updates
                 // Update the level label
-                levelLabel.setText("Level " + player.getLevel());
-
+                if (player.getLevel() != shownLevel) {
+                    shownLevel = player.getLevel();
+                    levelLabel.setText("Level " + shownLevel);
+                }
             }
 
-            camera.update();
+            // Draw entities between their last two tick positions
+            interpolate(accumulator / FIXED_TIME_STEP);
+            updateCamera(delta);
 
+            allocationProfiler.begin(AllocationProfiler.Section.RENDER);
             drawGame();
+            allocationProfiler.end(AllocationProfiler.Section.RENDER);
 
             checkCollisions();
             dialogManager.update(delta);
 
+            allocationProfiler.begin(AllocationProfiler.Section.UI);
             if (stage != null) {
                 stage.act(delta);
                 stage.draw();
@@ -504,6 +326,11 @@ public class Play implements Screen {
                 uiStage.act(delta);
                 uiStage.draw();
             }
+            allocationProfiler.end(AllocationProfiler.Section.UI);
+            allocationProfiler.endFrame();
+            if (allocationOverlay != null) {
+                allocationOverlay.update(delta);
+            }
            // shapeRenderer.begin(ShapeRenderer.ShapeType.Line);
           //  shapeRenderer.setProjectionMatrix(camera.combined);
 
@@ -524,7 +351,7 @@ public class Play implements Screen {
     private Rectangle getViewBounds() {
         float w = camera.viewportWidth * camera.zoom;
         float h = camera.viewportHeight * camera.zoom;
-        return new Rectangle(
+        return viewBounds.set(
             camera.position.x - w/2,
             camera.position.y - h/2,
             w,
@@ -533,46 +360,11 @@ public class Play implements Screen {
     }
 
 
-    private void updateGame(float delta) {
-        float frameTime = Math.min(delta, MAX_FRAME_TIME);
-        accumulator += frameTime;
-        while (accumulator >= FIXED_TIME_STEP) {
-            world.step(FIXED_TIME_STEP, VELOCITY_ITERATIONS, POSITION_ITERATIONS);
-            accumulator -= FIXED_TIME_STEP;
-        }
-        inputHandler.update(delta);
-        updateCamera();
-        Vector2 currentPos = player.getPosition();
-        if (currentPos != null) {
-            Vector2 adjustedPos = highgroundManager.getStepPosition(currentPos.x, currentPos.y);
-            if (adjustedPos != null) {
-                adjustedPos = lowgroundManager.updatePosition(adjustedPos.x, adjustedPos.y);
-                player.setWorldPosition(adjustedPos.x, adjustedPos.y);
-            } else {
-                Vector2 lowgroundPos = lowgroundManager.updatePosition(currentPos.x, currentPos.y);
-                player.setWorldPosition(lowgroundPos.x, lowgroundPos.y);
-            }
+    private void interpolate(float alpha) {
+        if (player != null) {
+            player.interpolate(alpha);
         }
-        player.update(delta);
-
-        // // Debug transparency state
-        // if (gameMap != null && gameMap.getTiledMap() != null) {
-        //     for (MapLayer layer : gameMap.getTiledMap().getLayers()) {
-        //         if (layer.getName().equals("D3") ||
-        //             layer.getName().equals("D5") ||
-        //             layer.getName().equals("D35") ||
-        //             layer.getName().equals("Library") ||
-        //             layer.getName().equals("Roof") ||
-        //             layer.getName().equals("Parking")) {
-
-        //             Gdx.app.debug("Play", String.format(
-        //                 "Layer %s opacity: %.2f",
-        //                 layer.getName(),
-        //                 layer.getOpacity()
-        //             ));
-        //         }
-        //     }
-        // }
+        renderAlpha = alpha; // Entity renderers blend their transforms with it
     }
 
 
@@ -590,17 +382,15 @@ public class Play implements Screen {
         ));
     }
 
-    private void updateCamera() {
-        // Get player position (now in pixels)
-        Vector2 playerPos = player.getPosition();
-        if (playerPos == null) {
+    private void updateCamera(float delta) {
+        if (player == null) {
             return;
         }
 
-        // Use lerp for smooth camera following
-        float lerp = 0.1f;
-        camera.position.x += (playerPos.x - camera.position.x) * lerp;
-        camera.position.y += (playerPos.y - camera.position.y) * lerp;
+        // Smooth camera following, scaled so it converges at the same speed at any frame rate
+        float lerp = 1f - (float) Math.pow(1f - CAMERA_LERP, delta * 60f);
+        camera.position.x += (player.getRenderX() - camera.position.x) * lerp;
+        camera.position.y += (player.getRenderY() - camera.position.y) * lerp;
 
         // Clamp camera to map bounds if needed
         if (mapBounds != null) {
@@ -620,30 +410,18 @@ public class Play implements Screen {
     private void drawGame() {
         if (isDisposed || gameMap == null || batch == null) return;
 
-        OrthogonalTiledMapRenderer renderer = gameMap.getRenderer();
-        if (renderer == null) return;
+        TileLayerCache layerCache = gameMap.getLayerCache();
         Gdx.gl.glEnable(GL20.GL_BLEND);
         Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
-        renderer.setView(camera);
         // Get camera frustum for culling
-        float w = camera.viewportWidth * camera.zoom;
-        float h = camera.viewportHeight * camera.zoom;
-        Rectangle viewBounds = new Rectangle(
-            camera.position.x - w/2,
-            camera.position.y - h/2,
-            w,
-            h
-        );
-        // Render first 3 layers
-        int[] firstLayers = {0, 1, 2};
-        renderer.render(firstLayers);
+        Rectangle viewBounds = getViewBounds();
+        // Ground layers under the entities
+        layerCache.render(camera, 0, GROUND_LAYERS);
         // Draw monsters and player
         batch.setProjectionMatrix(camera.combined);
         batch.begin();
-        renderMonsters(batch);
-        if (bulletManager != null) {
-            bulletManager.render(batch, viewBounds);
-        }
+        monsterRenderSystem.render(batch, renderAlpha);
+        bulletRenderSystem.render(batch, viewBounds, renderAlpha);
         if (player != null) {
             player.draw(batch);
         }
@@ -654,20 +432,12 @@ public class Play implements Screen {
         if (treeTransparencyManager != null && player != null) {
             treeTransparencyManager.update(player.getPosition());
         }
-        // Render remaining layers
-        if (gameMap.getTiledMap() != null) {
-            int[] remainingLayers = new int[gameMap.getTiledMap().getLayers().getCount() - 3];
-            for (int i = 3; i < gameMap.getTiledMap().getLayers().getCount(); i++) {
-                remainingLayers[i - 3] = i;
-            }
-            renderer.render(remainingLayers);
-        }
+        // Buildings, trees and the rest over the entities, faded by the transparency managers
+        layerCache.render(camera, GROUND_LAYERS, Integer.MAX_VALUE);
         // Draw other game objects
         batch.begin();
 
-        if (assetSetter != null) {
-            assetSetter.drawVisibleObjects(batch, viewBounds);
-        }
+        pickupRenderSystem.render(batch);
         if (player != null) {
             player.draw(batch);
         }
@@ -692,23 +462,14 @@ public class Play implements Screen {
     @Override
     public void dispose() {
         isDisposed = true;
-        // Dispose physics world and bodies first
-        if (world != null) {
-            world.dispose();
-            world = null;
-        }
-
-        // Dispose monsters safely
-        if (monsters != null) {
-            for (AbstractMonster monster : new Array.ArrayIterator<>(monsters)) {
-                if (monster != null) {
-                    monster.dispose();
-                }
-            }
-            monsters.clear();
-            monsters = null;
-        }
+        // Physics world, map and entities; textures and skins stay with GameAssets
+        simulation.dispose();
+        gameMap = null;
         levelLabel.getStyle().font.dispose();
+        if (allocationOverlay != null) {
+            allocationOverlay.dispose();
+            allocationOverlay = null;
+        }
 
         // Dispose graphics resources safely
         if (batch != null) {
@@ -716,12 +477,6 @@ public class Play implements Screen {
             batch = null;
         }
 
-        // Dispose map resources
-        if (gameMap != null) {
-            gameMap.dispose();
-            gameMap = null;
-        }
-
         // Dispose UI resources
         if (stage != null) {
             stage.dispose();
@@ -737,10 +492,6 @@ public class Play implements Screen {
             shapeRenderer.dispose();
             shapeRenderer = null;
         }
-        if (skin != null) {
-            skin.dispose();
-            skin = null;
-        }
     }
 
     @Override
@@ -806,7 +557,7 @@ public class Play implements Screen {
         float playerY = playerPos.y;
 
         // Create player bounds rectangle
-        Rectangle playerRect = new Rectangle(
+        playerRect.set(
             playerX - player.getWidth() / 2,
             playerY - player.getHeight() / 2,
             player.getWidth(),
@@ -836,33 +587,6 @@ public class Play implements Screen {
         }
     }
 
-    public void handleItemCollision(Contact contact) {
-        Fixture fixtureA = contact.getFixtureA();
-        Fixture fixtureB = contact.getFixtureB();
-        Object userDataA = contact.getFixtureA().getBody().getUserData();
-        Object userDataB = contact.getFixtureB().getBody().getUserData();
-
-        if (userDataA instanceof Player && userDataB instanceof Item) {
-            handleItemCollision((Item) userDataB, fixtureB);
-        } else if (userDataB instanceof Player && userDataA instanceof Item) {
-            handleItemCollision((Item) userDataA, fixtureA);
-        }
-    }
-
-    private void handleItemCollision(Item item, Fixture fixture) {
-        if (!item.isCollected()) {
-            inputHandler.setDialogActive(true);
-            dialogManager.showItemPickupDialog(item.getDialogMessage(), item.getImagePath(), () -> {
-                item.setCollected(true);
-                fixture.setSensor(true);
-                player.acquireEffect(item.getId());
-                assetSetter.objectAcquired(item);
-                inventoryTray.addItem(item.getImagePath());
-                inputHandler.setDialogActive(false);
-            });
-        }
-    }
-
     private void initializeMapBounds() {
         MapLayer boundsLayer = gameMap.getTiledMap().getLayers().get("map_bounds");
         if (boundsLayer != null) {
@@ -875,43 +599,19 @@ public class Play implements Screen {
         }
     }
 
-    private void cleanupUnusedResources() {
-        System.gc();
-        Gdx.app.log("Play", "Garbage collection triggered");
+    // Renderers are systems of the simulation's engine so they see its entities; Play calls them from drawGame()
+    private void initRenderSystems() {
+        PooledEngine engine = simulation.getEngine();
+        monsterRenderSystem = new MonsterRenderSystem();
+        bulletRenderSystem = new BulletRenderSystem();
+        pickupRenderSystem = new PickupRenderSystem();
+        engine.addSystem(monsterRenderSystem);
+        engine.addSystem(bulletRenderSystem);
+        engine.addSystem(pickupRenderSystem);
     }
 
-    // Add this method to clean up inactive physics bodies
-    private void cleanupPhysicsBodies() {
-        Array<Body> bodies = new Array<>();
-        world.getBodies(bodies);
-        for (Body body : bodies) {
-            if (!body.isActive() || body.getUserData() == null) {
-                world.destroyBody(body);
-            }
-        }
-    }
-
-    private void initMonsterSystem() {
-        System.out.println("Initializing monster system...");
-        monsters = new Array<AbstractMonster>(false, 16);
-
-        // Initialize MonsterSpawnManager with required parameters
-        monsterSpawnManager = new MonsterSpawnManager(
-            player,
-            monsters,  // Pass the monsters array reference
-            camera,
-            gameMap.getTiledMap()
-        );
-
-        // Add initial monsters
-        for (int i = 0; i < 3; i++) {  // Start with 3 monsters
-            monsterSpawnManager.trySpawnMonster();
-        }
-
-        System.out.println("Monster system initialized. Initial count: " + monsters.size);
-    }
-
-    private void update(float delta) {
+    // One fixed simulation step
+    private void tick(float delta) {
         if (isDisposed || gameMap == null) return;
 
         // Check for player death before any other updates
@@ -920,160 +620,30 @@ public class Play implements Screen {
             return;
         }
 
-        // Rest of your existing update logic...
         if (gameTimer != null) {
             gameTimer.update(delta, dialogManager.isDialogActive());
-            updateInfectionStatus(delta);
         }
-
-        // Only update game logic if no dialog is active and game is not paused
-        if (!isPaused && !dialogManager.isDialogActive()) {
-            // Update player
-            if (player != null) {
-                player.update(delta);
-            }
-
-            // Update monster spawning
-            spawnTimer += delta;
-            if (spawnTimer >= SPAWN_INTERVAL && monsters.size < MAX_MONSTERS) {
-                monsterSpawnManager.trySpawnMonster();
-                spawnTimer = 0;
-            }
-
-            // Update monsters and remove dead ones
-            for (int i = monsters.size - 1; i >= 0; i--) {
-                AbstractMonster monster = monsters.get(i);
-                if (monster != null) {
-                    if (!monster.isAlive()) {
-                        // If monster is dead and death animation is finished
-                        if (monster.getCurrentState() == MonsterState.DEATH &&
-                            monster.getCurrentAnimation().isAnimationFinished(monster.getStateTime())) {
-                            monsters.removeIndex(i);
-                            System.out.println("Monster removed after death");
-                            continue;
-                        }
-                    }
-                    monster.update(delta, player);
-                }
-            }
-
-            updateCamera();
-            if (bulletManager != null) {
-                bulletManager.update(delta);
-            }
-            if (monsterSpawnManager != null) {
-                monsterSpawnManager.update(delta);
-            }
-            if (gameMap.getTiledMap() != null) {
-                MapLayer collisionLayer = gameMap.getTiledMap().getLayers().get("collisions");
-                if (collisionLayer != null) {
-                    // Debug collision layer
-
-                    for (MapObject object : collisionLayer.getObjects()) {
-                        if (object instanceof RectangleMapObject) {
-                            Rectangle rect = ((RectangleMapObject) object).getRectangle();
-                            // Scale rectangle if using PPM
-                            rect.x /= GameConfig.PPM;
-                            rect.y /= GameConfig.PPM;
-                            rect.width /= GameConfig.PPM;
-                            rect.height /= GameConfig.PPM;
-                            bulletManager.checkCollisions(rect);
-                        }
-                    }
-                } else {
-                    Gdx.app.debug("Play", "No collision layer found!");
-                }
-                checkItemPickup();
-                updateCamera();
-                // Update monsters
-                System.out.println("monster size: " + monsters.size);
-                for (int i = monsters.size - 1; i >= 0; i--) {
-                    AbstractMonster monster = monsters.get(i);
-                    if (monster != null) {
-                        if (monster.isAlive()) {
-                            monster.update(delta, player);
-                        } else {
-                            // Keep updating until death animation completes
-                            monster.update(delta, player);
-                            Animation<TextureRegion> deathAnim = monster.getCurrentAnimation();
-                            if (deathAnim != null && deathAnim.isAnimationFinished(monster.getStateTime())) {
-                                monster.dispose(); // Clean up resources
-                                monsters.removeIndex(i); // Remove from array immediately
-                                continue; // Skip rendering this monster
-                            }
-                        }
-                    }
-                }
-
-                // Periodic garbage collection
-                cleanupTimer += delta;
-                if (cleanupTimer >= CLEANUP_INTERVAL) {
-                    cleanupUnusedResources();
-                    cleanupTimer = 0;
-                }
-            }
-
-            updateItemVisibility();
-            updateItemSpawning(delta);
-        }
-
-        // Update level-up timer
-        levelUpTimer += delta;
-        if (levelUpTimer >= LEVEL_UP_INTERVAL) {
-            player.levelUp();
-            levelUpTimer = 0f;
-        }
-
+        simulation.tick(delta);
     }
 
-    private void checkItemPickup() {
-        if (gameMap == null) return;
-
-        Rectangle playerBounds = player.getBounds();
-        for (Item item : assetSetter.getItems()) {
-            if (!item.isCollected() && item.isVisible() && playerBounds.overlaps(item.getBounds())) {
-                // Set dialog active state
-                inputHandler.setDialogActive(true);
-
-                // Show dialog with proper parameters
-                dialogManager.showItemPickupDialog(
-                    item.getDialogMessage(),
-                    item.getImagePath(),
-                    () -> {
-                        // Callback when dialog is closed
-                        item.setCollected(true);
-                        assetSetter.objectAcquired(item);
-                        inventoryTray.addItem(item.getImagePath());
-                        inputHandler.setDialogActive(false);
-
-                        // Apply item effects
-                        handleItemEffect(item);
-                    }
-                );
-                break;
+    @Override
+    public void onItemPickup(Item item, Runnable collect) {
+        inputHandler.setDialogActive(true);
+        dialogManager.showItemPickupDialog(
+            item.getDialogMessage(),
+            item.getImagePath(),
+            () -> {
+                // Callback when dialog is closed
+                collect.run();
+                inventoryTray.addItem(item.getImagePath());
+                inputHandler.setDialogActive(false);
             }
-
-        }
+        );
     }
 
-    private void handleItemEffect(Item item) {
-        switch (item.getId()) {
-            case 1: // CalcBook
-                player.acquireEffect(1);
-                break;
-            case 2: // AlgebraBook
-                player.acquireEffect(2);
-                break;
-            case 3: // PhysicBook
-                player.acquireEffect(3);
-                break;
-            case 4: // HPPotion
-                player.heal(50);
-                break;
-            case 5: // Shield and get Effect of Shield item
-                player.acquireEffect(5);
-                break;
-        }
+    @Override
+    public void onInfected() {
+        dialogManager.showWarningDialog("You are infected, find a way out of here!", null);
     }
 
     public void setGameOver() {
@@ -1085,155 +655,9 @@ public class Play implements Screen {
     }
 
 
-    public Array<AbstractMonster> getMonsters() {
-        return monsters;
+    public ImmutableArray<Entity> getMonsters() {
+        return simulation.getMonsters();
     }
 
     public Screen getScreen(){return game.getScreen();}
-
-    private void renderMonsters(SpriteBatch batch) {
-        for (AbstractMonster monster : monsters) {
-            if (monster != null && (monster.isAlive() ||
-                (monster.getCurrentState() == MonsterState.DEATH &&
-                 !monster.getCurrentAnimation().isAnimationFinished(monster.getStateTime())))) {
-                monster.render(batch);
-            }
-        }
-    }
-
-    private void updateItemVisibility() {
-        if (player != null && assetSetter != null && gameMap != null) {
-            Vector2 playerPos = player.getPosition();
-            assetSetter.updateItemVisibility(playerPos, gameMap.getTiledMap());
-        }
-    }
-
-    private void initItems() {
-        System.out.println("Initializing items...");
-        assetSetter = new AssetSetter();
-
-        // Get the spawning layer from the map
-        MapLayer spawnLayer = gameMap.getTiledMap().getLayers().get("spawning_layer");
-        if (spawnLayer != null) {
-            for (MapObject object : spawnLayer.getObjects()) {
-                if (object instanceof RectangleMapObject) {
-                    Rectangle rect = ((RectangleMapObject) object).getRectangle();
-                    String type = object.getProperties().get("type", String.class);
-
-                    // Convert coordinates to world units
-                    int x = (int) rect.x;
-                    int y = (int) rect.y;
-
-                    // Spawn different items based on type property
-                    switch (type) {
-                        case "calcbook":
-                            assetSetter.createObject(x, y, 1);
-                            break;
-                        case "algebrabook":
-                            assetSetter.createObject(x, y, 2);
-                            break;
-                        case "physicbook":
-                            assetSetter.createObject(x, y, 3);
-                            break;
-                        case "hppotion":
-                            assetSetter.createObject(x, y, 4);
-                            break;
-                        case "shield":
-                            assetSetter.createObject(x, y, 5);
-                            break;
-                    }
-                    System.out.println("Spawned item type: " + type + " at: " + x + "," + y);
-                }
-            }
-        } else {
-            System.out.println("Warning: spawning_layer not found in map");
-        }
-    }
-
-    private void initSpawnPoints() {
-        spawnPoints = new Array<>();
-        MapLayer spawnLayer = gameMap.getTiledMap().getLayers().get("spawning");
-
-        if (spawnLayer != null) {
-            for (MapObject object : spawnLayer.getObjects()) {
-                if (object instanceof RectangleMapObject) {
-                    Rectangle rect = ((RectangleMapObject) object).getRectangle();
-                    String type = object.getProperties().get("type", String.class);
-                    spawnPoints.add(new SpawnPoint((int)rect.x, (int)rect.y, type));
-                }
-            }
-        }
-    }
-
-    private void updateItemSpawning(float delta) {
-        if (spawnPoints == null || spawnPoints.size == 0) return;
-
-        itemSpawnTimer += delta;
-
-        if (itemSpawnTimer >= ITEM_SPAWN_INTERVAL) {
-            itemSpawnTimer = 0;
-
-            // Find unoccupied spawn points
-            Array<SpawnPoint> availablePoints = new Array<>();
-            for (SpawnPoint point : spawnPoints) {
-                if (!point.isOccupied && point.type != null) {
-                    availablePoints.add(point);
-                }
-            }
-
-            // Spawn item at random available point
-            if (availablePoints.size > 0) {
-                SpawnPoint selectedPoint = availablePoints.random();
-                int itemId = getItemIdFromType(selectedPoint.type);
-
-                if (itemId > 0) {
-                    assetSetter.createObject(selectedPoint.x, selectedPoint.y, itemId);
-                    selectedPoint.isOccupied = true;
-                    System.out.println("Spawned item type: " + selectedPoint.type +
-                                     " at: " + selectedPoint.x + "," + selectedPoint.y);
-                }
-            }
-        }
-    }
-
-    private int getItemIdFromType(String type) {
-        if (type == null) return 0;
-
-        switch (type.toLowerCase()) {
-            case "calcbook": return 1;
-            case "algebrabook": return 2;
-            case "physicbook": return 3;
-            case "hppotion": return 4;
-            case "shield": return 5;
-            default: return 0;
-        }
-    }
-
-    public void handleItemPickup(Item item) {
-        // ... existing pickup code ...
-
-        // Free up spawn point
-        for (SpawnPoint point : spawnPoints) {
-            if (point.x == (int)item.getX() && point.y == (int)item.getY()) {
-                point.isOccupied = false;
-                break;
-            }
-        }
-    }
-
-    private void updateInfectionStatus(float delta) {
-        if (!isInfected && gameTimer.getTotalTime() >= INFECTION_TIME) {
-            isInfected = true;
-            // Show infection dialog
-            dialogManager.showWarningDialog("You are infected, find a way out of here!", null);
-        }
-
-        if (isInfected && !dialogManager.isDialogActive()) {
-            infectionTimer += delta;
-            if (infectionTimer >= INFECTION_TICK) {
-                player.takeDamage(INFECTION_DAMAGE);
-                infectionTimer = 0f;
-            }
-        }
-    }
 }
@@ -0,0 +1,263 @@
+package io.github.HustSavior.assets;
+
+import java.util.regex.Pattern;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.ObjectSet;
+
+import io.github.HustSavior.utils.log.GameLog;
+
+/**
+ * Owner of every texture, skin, sound effect and monster sheet the game uses.
+ *
+ * {@link #queueManifest()} queues the files of {@link #MANIFEST} (written by
+ * the generateAssetList task) that match {@link #RULES}; {@link #update(int)},
+ * called once a frame from the splash onwards, decodes them on the
+ * AssetManager's thread and uploads them a few milliseconds at a time. Callers
+ * only look assets up, so nothing is read from disk during play, and nobody
+ * but this class disposes them.
+ *
+ * A lookup of something that is not loaded yet loads it on the spot, which is
+ * what the headless simulation, with no manifest queued, always does.
+ *
+ * Sprites drawn during play come from the atlases the tools:packAtlases task
+ * builds, so a scene binds one or two textures; {@link #getRegion(String)}
+ * resolves them by their file path and falls back to the loose file when the
+ * atlas has not been packed.
+ */
+public class GameAssets implements Disposable {
+    private static final String TAG = "GameAssets";
+
+    public static final String MANIFEST = "assets.txt";
+    public static final String GAME_ATLAS = "atlas/game.atlas";
+    // Frames cut from the sheets of data/monsters.json, see MonsterAnimationRegistry
+    public static final String MONSTER_ATLAS = "atlas/monsters.atlas";
+
+    // Checked in order, the first match decides the type; files matching none stay on disk.
+    // A file packed into an atlas is only loaded on its own while that atlas is missing.
+    private static final Rule[] RULES = {
+        new Rule("sprites/monster/[^/]+/[^/]+\\.png", Pixmap.class, MONSTER_ATLAS),
+        new Rule("sprites/(Walk|Defeated)[^/]*\\.png", Texture.class, GAME_ATLAS),
+        new Rule("skills/Slash\\d\\.png", Texture.class, GAME_ATLAS),
+        new Rule("item/.+\\.(png|jpg)", Texture.class, GAME_ATLAS),
+        new Rule("(bullets|HP & XP)/[^/]+\\.png", Texture.class, GAME_ATLAS),
+        new Rule("screen/[^/]+\\.png", Texture.class, null),
+        // Music streams from MusicPlayer instead
+        new Rule("sound/[^/]+_effect\\.mp3", Sound.class, null),
+        // A skin is a json with the atlas of the same name next to it, see queueManifest
+        new Rule("UI/.+/[^/]+\\.json", Skin.class, null),
+    };
+
+    private static class Rule {
+        final Pattern pattern;
+        final Class<?> type;
+        final String atlas;
+
+        Rule(String regex, Class<?> type, String atlas) {
+            this.pattern = Pattern.compile(regex);
+            this.type = type;
+            this.atlas = atlas;
+        }
+    }
+
+    private static GameAssets instance;
+
+    private final AssetManager manager = new AssetManager();
+    // Regions by name, filled from the game atlas or, without one, from the loose files
+    private final ObjectMap<String, TextureRegion> regions = new ObjectMap<>();
+    private boolean queued;
+    private long queuedAt;
+
+    private GameAssets() {
+        // A broken file costs its own lookups, not the rest of the queue
+        manager.setErrorListener((asset, throwable) -> GameLog.error(TAG, "Failed to load " + asset.fileName, throwable));
+    }
+
+    public static GameAssets getInstance() {
+        if (instance == null) {
+            instance = new GameAssets();
+        }
+        return instance;
+    }
+
+    /** Queues the manifest's assets once; later calls do nothing. */
+    public void queueManifest() {
+        if (queued) return;
+        queued = true;
+        queuedAt = System.currentTimeMillis();
+
+        // Packed in the same build, so possibly newer than the manifest
+        for (String atlas : new String[] { GAME_ATLAS, MONSTER_ATLAS }) {
+            if (Gdx.files.internal(atlas).exists()) {
+                manager.load(atlas, TextureAtlas.class);
+            }
+        }
+
+        FileHandle manifest = Gdx.files.internal(MANIFEST);
+        if (!manifest.exists()) {
+            GameLog.error(TAG, MANIFEST + " not found, assets load on first use");
+            return;
+        }
+        String[] paths = manifest.readString("UTF-8").split("\\r?\\n");
+        ObjectSet<String> present = new ObjectSet<>(paths.length);
+        for (String path : paths) {
+            present.add(path);
+        }
+
+        int count = 0;
+        for (String path : paths) {
+            Rule rule = ruleOf(path);
+            if (rule == null) continue;
+            if (rule.atlas != null && manager.contains(rule.atlas, TextureAtlas.class)) continue;
+            Class<?> type = rule.type;
+            if (type == Skin.class && !present.contains(path.substring(0, path.length() - ".json".length()) + ".atlas")) {
+                continue;
+            }
+            manager.load(path, type);
+            count++;
+        }
+        GameLog.info(TAG, "Queued " + count + " of " + paths.length + " files from " + MANIFEST);
+    }
+
+    private static Rule ruleOf(String path) {
+        for (Rule rule : RULES) {
+            if (rule.pattern.matcher(path).matches()) return rule;
+        }
+        return null;
+    }
+
+    /** The atlas a file is packed into, or null; what the atlas packer goes by. */
+    public static String atlasOf(String path) {
+        Rule rule = ruleOf(path);
+        return rule != null ? rule.atlas : null;
+    }
+
+    /** Name of the region a file is packed as: its path without the extension. */
+    public static String regionName(String path) {
+        int dot = path.lastIndexOf('.');
+        return dot > path.lastIndexOf('/') ? path.substring(0, dot) : path;
+    }
+
+    /**
+     * Loads for at most about {@code millis} on the calling (GL) thread.
+     *
+     * @return true once everything queued is loaded
+     */
+    public boolean update(int millis) {
+        boolean wasLoading = manager.getQueuedAssets() > 0;
+        boolean done = manager.update(millis);
+        if (done && wasLoading) {
+            GameLog.info(TAG, "Loaded " + manager.getLoadedAssets() + " assets in "
+                + (System.currentTimeMillis() - queuedAt) + "ms");
+        }
+        return done;
+    }
+
+    public float getProgress() {
+        return manager.getProgress();
+    }
+
+    /** Blocks until everything queued is loaded. */
+    public void finishLoading() {
+        if (!manager.isFinished()) {
+            long start = System.currentTimeMillis();
+            manager.finishLoading();
+            GameLog.info(TAG, "Waited " + (System.currentTimeMillis() - start) + "ms for the rest of the assets");
+        }
+    }
+
+    public Texture getTexture(String path) {
+        return get(path, Texture.class);
+    }
+
+    public Skin getSkin(String path) {
+        return get(path, Skin.class);
+    }
+
+    public Sound getSound(String path) {
+        return get(path, Sound.class);
+    }
+
+    public Pixmap getPixmap(String path) {
+        return get(path, Pixmap.class);
+    }
+
+    /**
+     * The region of a sprite in the game atlas, by the path of its source file,
+     * e.g. "item/shield.png". Without a packed atlas, the whole loose texture.
+     * Regions are shared; copy one before changing it.
+     */
+    public TextureRegion getRegion(String path) {
+        if (regions.size == 0) {
+            TextureAtlas atlas = findAtlas(GAME_ATLAS);
+            if (atlas != null) {
+                for (TextureAtlas.AtlasRegion region : atlas.getRegions()) {
+                    regions.put(region.name, region);
+                }
+            }
+        }
+        String name = regionName(path);
+        TextureRegion region = regions.get(name);
+        if (region == null) {
+            if (queued && GameLog.DEBUG) GameLog.debug(TAG, "Not in " + GAME_ATLAS + ", loading the file: " + path);
+            region = new TextureRegion(getTexture(path));
+            regions.put(name, region);
+        }
+        return region;
+    }
+
+    /** A packed atlas, or null if the build has not packed it, as in a bare checkout. */
+    public TextureAtlas findAtlas(String path) {
+        if (!manager.isLoaded(path, TextureAtlas.class) && !Gdx.files.internal(path).exists()) {
+            return null;
+        }
+        return get(path, TextureAtlas.class);
+    }
+
+    private <T> T get(String path, Class<T> type) {
+        if (!manager.isLoaded(path, type)) {
+            if (!manager.contains(path, type)) {
+                if (queued && GameLog.DEBUG) GameLog.debug(TAG, "Not in the manifest, loading now: " + path);
+                manager.load(path, type);
+            }
+            // Not finishLoadingAsset, which spins forever on a file the error listener dropped
+            while (!manager.isLoaded(path, type) && manager.contains(path, type)) {
+                manager.update();
+                Thread.yield();
+            }
+            if (!manager.isLoaded(path, type)) {
+                throw new GdxRuntimeException("Could not load " + path);
+            }
+        }
+        return manager.get(path, type);
+    }
+
+    /** Unloads every loaded asset of one type, e.g. pixmaps once they are packed. */
+    public void unloadAll(Class<?> type) {
+        Array<String> names = manager.getAssetNames();
+        for (String name : names) {
+            if (manager.getAssetType(name) == type) {
+                manager.unload(name);
+            }
+        }
+    }
+
+    @Override
+    public void dispose() {
+        regions.clear();
+        manager.dispose();
+        instance = null;
+    }
+}
@@ -1,6 +1,5 @@
 package io.github.HustSavior.collision;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.maps.objects.PolygonMapObject;
 import com.badlogic.gdx.maps.objects.RectangleMapObject;
 import com.badlogic.gdx.math.Polygon;
@@ -8,6 +7,7 @@ import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.*;
 import io.github.HustSavior.utils.GameConfig;
+import io.github.HustSavior.utils.log.GameLog;
 
 public class CollisionBodyFactory {
     private final World world;
@@ -28,7 +28,9 @@ public class CollisionBodyFactory {
         PolygonShape shape = new PolygonShape();
         shape.setAsBox(rect.width / 2 / PPM, rect.height / 2 /PPM);
 
-        body.createFixture(shape, 0.0f);
+        FixtureDef fixtureDef = new FixtureDef();
+        fixtureDef.shape = shape;
+        body.createFixture(CollisionCategory.apply(fixtureDef, CollisionCategory.WALL));
         shape.dispose();
     }
 
@@ -59,12 +61,12 @@ public class CollisionBodyFactory {
             fixtureDef.friction = 0.4f;
             fixtureDef.restitution = 0.0f;
     
-            body.createFixture(fixtureDef);
+            body.createFixture(CollisionCategory.apply(fixtureDef, CollisionCategory.WALL));
             shape.dispose();
     
-            Gdx.app.log("CollisionBodyFactory", "Created polygon body with " + worldVertices.length + " vertices");
+            if (GameLog.DEBUG) GameLog.debug("CollisionBodyFactory", "Created polygon body with " + worldVertices.length + " vertices");
         } catch (Exception e) {
-            Gdx.app.error("CollisionBodyFactory", "Failed to create polygon body", e);
+            GameLog.error("CollisionBodyFactory", "Failed to create polygon body", e);
         }
     }
 } 
\ No newline at end of file
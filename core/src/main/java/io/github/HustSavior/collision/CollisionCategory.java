@@ -0,0 +1,68 @@
+package io.github.HustSavior.collision;
+
+import com.badlogic.gdx.physics.box2d.Filter;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.gdx.physics.box2d.FixtureDef;
+
+/**
+ * Box2D category bits of every kind of body, and the kinds each one touches.
+ * Every fixture gets both through {@link #apply}; Box2D then drops pairs whose
+ * masks do not match before they ever become contacts, so CollisionListener only
+ * sees pairs that have a handler.
+ *
+ * WALL is bit 0, Box2D's default category, so a fixture created without a filter
+ * counts as a wall.
+ *
+ * Only walls and the shield's PLAYER_SKILL sensor have fixtures at present. The
+ * player, monsters and items are entities without bodies, so no pair reaches a
+ * handler; their bits keep the layout stable for TransparencyManager.
+ */
+public final class CollisionCategory {
+    public static final short WALL = 0x0001;
+    public static final short PLAYER = 0x0002;
+    public static final short MONSTER = 0x0004;
+    public static final short ITEM = 0x0008;
+    public static final short PLAYER_SKILL = 0x0010; // Sensors a skill carries around the player
+    public static final short TRANSPARENCY_BOUNDS = 0x0020;
+
+    // Number of categories; their bit indices are 0 to COUNT - 1
+    public static final int COUNT = 6;
+
+    private static final short[] MASKS = new short[COUNT];
+
+    static {
+        MASKS[index(WALL)] = PLAYER | MONSTER;
+        MASKS[index(PLAYER)] = WALL | ITEM | TRANSPARENCY_BOUNDS;
+        MASKS[index(MONSTER)] = WALL | PLAYER_SKILL;
+        MASKS[index(ITEM)] = PLAYER;
+        MASKS[index(PLAYER_SKILL)] = MONSTER;
+        MASKS[index(TRANSPARENCY_BOUNDS)] = PLAYER;
+    }
+
+    private CollisionCategory() {
+    }
+
+    // Bit index of a single category, -1 if bits is not exactly one known category
+    public static int index(short bits) {
+        int index = Integer.numberOfTrailingZeros(bits & 0xFFFF);
+        return index < COUNT && (bits & 0xFFFF) == 1 << index ? index : -1;
+    }
+
+    public static short getMask(short category) {
+        return MASKS[index(category)];
+    }
+
+    public static FixtureDef apply(FixtureDef fixtureDef, short category) {
+        fixtureDef.filter.categoryBits = category;
+        fixtureDef.filter.maskBits = getMask(category);
+        return fixtureDef;
+    }
+
+    public static Fixture apply(Fixture fixture, short category) {
+        Filter filter = new Filter();
+        filter.categoryBits = category;
+        filter.maskBits = getMask(category);
+        fixture.setFilterData(filter);
+        return fixture;
+    }
+}
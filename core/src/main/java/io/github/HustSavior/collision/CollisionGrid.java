@@ -0,0 +1,433 @@
+package io.github.HustSavior.collision;
+
+import java.util.Arrays;
+
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.MapObject;
+import com.badlogic.gdx.maps.objects.PolygonMapObject;
+import com.badlogic.gdx.maps.objects.RectangleMapObject;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+
+import io.github.HustSavior.utils.GameConfig;
+
+/**
+ * Immutable uniform grid over the static wall geometry of the "collisions" layer.
+ * Everything is converted to world units (pixels / PPM) once at construction, so
+ * {@link #overlaps(Rectangle)} only tests the walls registered in the cells the
+ * query touches and does not allocate. Overlap queries keep no state and may run
+ * on several threads at once; sweeps reuse per-grid scratch and may not.
+ */
+public class CollisionGrid {
+    public static final float DEFAULT_CELL_SIZE = 1f; // World units (100 px)
+
+    private final float cellSize;
+    private final float originX;
+    private final float originY;
+    private final int columns;
+    private final int rows;
+
+    // Per-shape axis aligned bounds: minX, minY, maxX, maxY
+    private final float[] shapeBounds;
+    // Transformed polygon vertices in world units, null for rectangles
+    private final float[][] polygonVertices;
+    private final int shapeCount;
+
+    // Cell -> shapes, packed: shapes of cell c are cellShapes[cellStart[c] .. cellStart[c + 1])
+    private final int[] cellStart;
+    private final int[] cellShapes;
+
+    // Per-sweep stamps so a shape spanning several cells is only tested once
+    private final int[] shapeStamps;
+    private int queryStamp = 0;
+
+    /**
+     * Everything the grid is built from, in world units, so it can be computed
+     * once ahead of time and handed back to {@link #CollisionGrid(Index)}.
+     */
+    public static class Index {
+        public float cellSize;
+        public float originX;
+        public float originY;
+        public int columns;
+        public int rows;
+        public float[] shapeBounds;
+        public float[][] polygonVertices;
+        public int[] cellStart;
+        public int[] cellShapes;
+    }
+
+    public CollisionGrid(TiledMap map) {
+        this(map, DEFAULT_CELL_SIZE);
+    }
+
+    public CollisionGrid(TiledMap map, float cellSize) {
+        this(buildIndex(map, cellSize));
+    }
+
+    public CollisionGrid(Index index) {
+        this.cellSize = index.cellSize;
+        this.originX = index.originX;
+        this.originY = index.originY;
+        this.columns = index.columns;
+        this.rows = index.rows;
+        this.shapeBounds = index.shapeBounds;
+        this.polygonVertices = index.polygonVertices;
+        this.shapeCount = polygonVertices.length;
+        this.cellStart = index.cellStart;
+        this.cellShapes = index.cellShapes;
+        this.shapeStamps = new int[shapeCount];
+    }
+
+    private static Index buildIndex(TiledMap map, float cellSize) {
+        Index index = new Index();
+        index.cellSize = cellSize;
+
+        FloatArray bounds = new FloatArray();
+        Array<float[]> polygons = new Array<>();
+        MapLayer collisionLayer = map.getLayers().get(CollisionWorld.COLLISION_LAYER);
+        if (collisionLayer != null) {
+            for (MapObject object : collisionLayer.getObjects()) {
+                if (object instanceof RectangleMapObject) {
+                    Rectangle rect = ((RectangleMapObject) object).getRectangle();
+                    bounds.add(
+                        rect.x / GameConfig.PPM,
+                        rect.y / GameConfig.PPM,
+                        (rect.x + rect.width) / GameConfig.PPM,
+                        (rect.y + rect.height) / GameConfig.PPM
+                    );
+                    polygons.add(null);
+                } else if (object instanceof PolygonMapObject) {
+                    float[] source = ((PolygonMapObject) object).getPolygon().getTransformedVertices();
+                    float[] vertices = new float[source.length];
+                    float minX = Float.MAX_VALUE, minY = Float.MAX_VALUE;
+                    float maxX = -Float.MAX_VALUE, maxY = -Float.MAX_VALUE;
+                    for (int i = 0; i < source.length; i += 2) {
+                        vertices[i] = source[i] / GameConfig.PPM;
+                        vertices[i + 1] = source[i + 1] / GameConfig.PPM;
+                        minX = Math.min(minX, vertices[i]);
+                        minY = Math.min(minY, vertices[i + 1]);
+                        maxX = Math.max(maxX, vertices[i]);
+                        maxY = Math.max(maxY, vertices[i + 1]);
+                    }
+                    bounds.add(minX, minY, maxX, maxY);
+                    polygons.add(vertices);
+                }
+            }
+        }
+
+        int shapeCount = polygons.size;
+        float[] shapeBounds = bounds.toArray();
+        index.shapeBounds = shapeBounds;
+        index.polygonVertices = new float[shapeCount][];
+        for (int i = 0; i < shapeCount; i++) {
+            index.polygonVertices[i] = polygons.get(i);
+        }
+
+        // Grid covers the union of the map and all shapes
+        float minX = 0, minY = 0;
+        float maxX = mapWidth(map) / GameConfig.PPM;
+        float maxY = mapHeight(map) / GameConfig.PPM;
+        for (int i = 0; i < shapeCount; i++) {
+            minX = Math.min(minX, shapeBounds[i * 4]);
+            minY = Math.min(minY, shapeBounds[i * 4 + 1]);
+            maxX = Math.max(maxX, shapeBounds[i * 4 + 2]);
+            maxY = Math.max(maxY, shapeBounds[i * 4 + 3]);
+        }
+        index.originX = minX;
+        index.originY = minY;
+        int columns = Math.max(1, (int) Math.ceil((maxX - minX) / cellSize));
+        int rows = Math.max(1, (int) Math.ceil((maxY - minY) / cellSize));
+        index.columns = columns;
+        index.rows = rows;
+
+        // Two passes: count shapes per cell, then fill the packed index
+        int cellCount = columns * rows;
+        int[] cellStart = new int[cellCount + 1];
+        for (int i = 0; i < shapeCount; i++) {
+            int x0 = cell(shapeBounds[i * 4], minX, cellSize, columns);
+            int y0 = cell(shapeBounds[i * 4 + 1], minY, cellSize, rows);
+            int x1 = cell(shapeBounds[i * 4 + 2], minX, cellSize, columns);
+            int y1 = cell(shapeBounds[i * 4 + 3], minY, cellSize, rows);
+            for (int y = y0; y <= y1; y++) {
+                for (int x = x0; x <= x1; x++) {
+                    cellStart[y * columns + x + 1]++;
+                }
+            }
+        }
+        for (int c = 0; c < cellCount; c++) {
+            cellStart[c + 1] += cellStart[c];
+        }
+        int[] cellShapes = new int[cellStart[cellCount]];
+        int[] fill = new int[cellCount];
+        for (int i = 0; i < shapeCount; i++) {
+            int x0 = cell(shapeBounds[i * 4], minX, cellSize, columns);
+            int y0 = cell(shapeBounds[i * 4 + 1], minY, cellSize, rows);
+            int x1 = cell(shapeBounds[i * 4 + 2], minX, cellSize, columns);
+            int y1 = cell(shapeBounds[i * 4 + 3], minY, cellSize, rows);
+            for (int y = y0; y <= y1; y++) {
+                for (int x = x0; x <= x1; x++) {
+                    int cell = y * columns + x;
+                    cellShapes[cellStart[cell] + fill[cell]++] = i;
+                }
+            }
+        }
+        index.cellStart = cellStart;
+        index.cellShapes = cellShapes;
+        return index;
+    }
+
+    private static float mapWidth(TiledMap map) {
+        Integer width = map.getProperties().get("width", Integer.class);
+        Integer tileWidth = map.getProperties().get("tilewidth", Integer.class);
+        return width != null && tileWidth != null ? width * tileWidth : 0;
+    }
+
+    private static float mapHeight(TiledMap map) {
+        Integer height = map.getProperties().get("height", Integer.class);
+        Integer tileHeight = map.getProperties().get("tileheight", Integer.class);
+        return height != null && tileHeight != null ? height * tileHeight : 0;
+    }
+
+    private static int cell(float position, float origin, float cellSize, int count) {
+        return Math.max(0, Math.min(count - 1, (int) ((position - origin) / cellSize)));
+    }
+
+    private int cellX(float x) {
+        return cell(x, originX, cellSize, columns);
+    }
+
+    private int cellY(float y) {
+        return cell(y, originY, cellSize, rows);
+    }
+
+    // The arrays are shared with this grid, not copied
+    public Index getIndex() {
+        Index index = new Index();
+        index.cellSize = cellSize;
+        index.originX = originX;
+        index.originY = originY;
+        index.columns = columns;
+        index.rows = rows;
+        index.shapeBounds = shapeBounds;
+        index.polygonVertices = polygonVertices;
+        index.cellStart = cellStart;
+        index.cellShapes = cellShapes;
+        return index;
+    }
+
+    /** True if the rectangle (world units) overlaps any wall. */
+    public boolean overlaps(Rectangle bounds) {
+        return overlaps(bounds.x, bounds.y, bounds.width, bounds.height);
+    }
+
+    /** True if the rectangle (world units) overlaps any wall. */
+    public boolean overlaps(float x, float y, float width, float height) {
+        if (shapeCount == 0) return false;
+
+        float maxX = x + width;
+        float maxY = y + height;
+        int x0 = cellX(x), y0 = cellY(y);
+        int x1 = cellX(maxX), y1 = cellY(maxY);
+
+        // No stamps here: a shape in several cells may be tested again after a miss, which
+        // is cheap and keeps the query free of shared state
+        for (int cy = y0; cy <= y1; cy++) {
+            for (int cx = x0; cx <= x1; cx++) {
+                int cell = cy * columns + cx;
+                for (int i = cellStart[cell], end = cellStart[cell + 1]; i < end; i++) {
+                    int shape = cellShapes[i];
+                    int b = shape * 4;
+                    // Same strict test as Rectangle.overlaps
+                    if (x >= shapeBounds[b + 2] || maxX <= shapeBounds[b]
+                        || y >= shapeBounds[b + 3] || maxY <= shapeBounds[b + 1]) {
+                        continue;
+                    }
+                    float[] polygon = polygonVertices[shape];
+                    if (polygon == null || overlapsPolygon(polygon, x, y, maxX, maxY)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Separating axis test of a box against a convex polygon whose bounds already
+     * overlap it, so only the polygon's edge normals are left to check.
+     */
+    private static boolean overlapsPolygon(float[] polygon, float x, float y, float maxX, float maxY) {
+        float centreX = (x + maxX) / 2, centreY = (y + maxY) / 2;
+        float halfWidth = (maxX - x) / 2, halfHeight = (maxY - y) / 2;
+        int count = polygon.length;
+        for (int i = 0; i < count; i += 2) {
+            int j = (i + 2) % count;
+            float normalX = polygon[i + 1] - polygon[j + 1];
+            float normalY = polygon[j] - polygon[i];
+
+            float polygonMin = Float.MAX_VALUE, polygonMax = -Float.MAX_VALUE;
+            for (int k = 0; k < count; k += 2) {
+                float projection = polygon[k] * normalX + polygon[k + 1] * normalY;
+                polygonMin = Math.min(polygonMin, projection);
+                polygonMax = Math.max(polygonMax, projection);
+            }
+            float boxCentre = centreX * normalX + centreY * normalY;
+            float boxExtent = halfWidth * Math.abs(normalX) + halfHeight * Math.abs(normalY);
+            if (boxCentre + boxExtent <= polygonMin || boxCentre - boxExtent >= polygonMax) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Sweeps the box (x, y, width, height in world units) by (dx, dy) and reports the
+     * first wall it touches. Rectangles use the slab test on the Minkowski sum; convex
+     * polygons test the box corners against polygon edges and the polygon vertices
+     * against the box edges, which together give the exact first contact.
+     *
+     * @return true if a wall is hit within the displacement or the box starts inside one
+     */
+    public boolean sweep(float x, float y, float width, float height, float dx, float dy, SweepHit hit) {
+        hit.reset();
+        if (shapeCount == 0) return false;
+
+        if (overlaps(x, y, width, height)) {
+            hit.time = 0;
+            hit.startsInside = true;
+            return true;
+        }
+
+        float maxX = x + width;
+        float maxY = y + height;
+        // Cells covered by the whole sweep
+        int x0 = cellX(Math.min(x, x + dx)), y0 = cellY(Math.min(y, y + dy));
+        int x1 = cellX(Math.max(maxX, maxX + dx)), y1 = cellY(Math.max(maxY, maxY + dy));
+
+        if (++queryStamp == 0) {
+            Arrays.fill(shapeStamps, 0);
+            queryStamp = 1;
+        }
+
+        boolean found = false;
+        for (int cy = y0; cy <= y1; cy++) {
+            for (int cx = x0; cx <= x1; cx++) {
+                int cell = cy * columns + cx;
+                for (int i = cellStart[cell], end = cellStart[cell + 1]; i < end; i++) {
+                    int shape = cellShapes[i];
+                    if (shapeStamps[shape] == queryStamp) continue;
+                    shapeStamps[shape] = queryStamp;
+
+                    float[] polygon = polygonVertices[shape];
+                    if (polygon == null) {
+                        found |= sweepRectangle(shape * 4, x, y, maxX, maxY, dx, dy, hit);
+                    } else {
+                        found |= sweepPolygon(polygon, x, y, maxX, maxY, dx, dy, hit);
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    private boolean sweepRectangle(int b, float x, float y, float maxX, float maxY, float dx, float dy, SweepHit hit) {
+        float entryX, exitX, entryY, exitY;
+        if (dx > 0) {
+            entryX = (shapeBounds[b] - maxX) / dx;
+            exitX = (shapeBounds[b + 2] - x) / dx;
+        } else if (dx < 0) {
+            entryX = (shapeBounds[b + 2] - x) / dx;
+            exitX = (shapeBounds[b] - maxX) / dx;
+        } else {
+            if (maxX <= shapeBounds[b] || x >= shapeBounds[b + 2]) return false;
+            entryX = Float.NEGATIVE_INFINITY;
+            exitX = Float.POSITIVE_INFINITY;
+        }
+        if (dy > 0) {
+            entryY = (shapeBounds[b + 1] - maxY) / dy;
+            exitY = (shapeBounds[b + 3] - y) / dy;
+        } else if (dy < 0) {
+            entryY = (shapeBounds[b + 3] - y) / dy;
+            exitY = (shapeBounds[b + 1] - maxY) / dy;
+        } else {
+            if (maxY <= shapeBounds[b + 1] || y >= shapeBounds[b + 3]) return false;
+            entryY = Float.NEGATIVE_INFINITY;
+            exitY = Float.POSITIVE_INFINITY;
+        }
+
+        float entry = Math.max(entryX, entryY);
+        float exit = Math.min(exitX, exitY);
+        if (entry > exit || entry < 0 || entry >= hit.time) return false;
+
+        hit.time = entry;
+        if (entryX > entryY) {
+            hit.normalX = dx > 0 ? -1 : 1;
+            hit.normalY = 0;
+        } else {
+            hit.normalX = 0;
+            hit.normalY = dy > 0 ? -1 : 1;
+        }
+        return true;
+    }
+
+    private boolean sweepPolygon(float[] polygon, float x, float y, float maxX, float maxY, float dx, float dy, SweepHit hit) {
+        boolean found = false;
+        int count = polygon.length;
+
+        // Box corners moving along (dx, dy) against polygon edges
+        for (int v = 0; v < count; v += 2) {
+            float ax = polygon[v], ay = polygon[v + 1];
+            float ex = polygon[(v + 2) % count] - ax, ey = polygon[(v + 3) % count] - ay;
+            float t = Math.min(
+                Math.min(rayVsSegment(x, y, dx, dy, ax, ay, ex, ey), rayVsSegment(maxX, y, dx, dy, ax, ay, ex, ey)),
+                Math.min(rayVsSegment(maxX, maxY, dx, dy, ax, ay, ex, ey), rayVsSegment(x, maxY, dx, dy, ax, ay, ex, ey)));
+            if (t < hit.time) {
+                // Edge normal facing against the motion
+                float length = (float) Math.sqrt(ex * ex + ey * ey);
+                float nx = ey / length, ny = -ex / length;
+                if (nx * dx + ny * dy > 0) {
+                    nx = -nx;
+                    ny = -ny;
+                }
+                hit.time = t;
+                hit.normalX = nx;
+                hit.normalY = ny;
+                found = true;
+            }
+        }
+
+        // Polygon vertices moving along (-dx, -dy) against the box faces
+        for (int v = 0; v < count; v += 2) {
+            float px = polygon[v], py = polygon[v + 1];
+            float left = rayVsSegment(px, py, -dx, -dy, x, y, 0, maxY - y);
+            float right = rayVsSegment(px, py, -dx, -dy, maxX, y, 0, maxY - y);
+            float bottom = rayVsSegment(px, py, -dx, -dy, x, y, maxX - x, 0);
+            float top = rayVsSegment(px, py, -dx, -dy, x, maxY, maxX - x, 0);
+            // The wall pushes back against the box face that was hit
+            if (left < hit.time) { hit.time = left; hit.normalX = 1; hit.normalY = 0; found = true; }
+            if (right < hit.time) { hit.time = right; hit.normalX = -1; hit.normalY = 0; found = true; }
+            if (bottom < hit.time) { hit.time = bottom; hit.normalX = 0; hit.normalY = 1; found = true; }
+            if (top < hit.time) { hit.time = top; hit.normalX = 0; hit.normalY = -1; found = true; }
+        }
+        return found;
+    }
+
+    // Parameter t in [0, 1] where p + t * d crosses segment a + u * e, or +infinity
+    private static float rayVsSegment(float px, float py, float dx, float dy,
+                                      float ax, float ay, float ex, float ey) {
+        float denominator = dx * ey - dy * ex;
+        if (Math.abs(denominator) < 1e-12f) return Float.POSITIVE_INFINITY; // Parallel
+        float qx = ax - px, qy = ay - py;
+        float t = (qx * ey - qy * ex) / denominator;
+        float u = (qx * dy - qy * dx) / denominator;
+        if (t < 0 || t > 1 || u < 0 || u > 1) return Float.POSITIVE_INFINITY;
+        return t;
+    }
+
+    public int getShapeCount() {
+        return shapeCount;
+    }
+}
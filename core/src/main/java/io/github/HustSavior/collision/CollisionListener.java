@@ -3,21 +3,55 @@ package io.github.HustSavior.collision;
 import com.badlogic.gdx.physics.box2d.Contact;
 import com.badlogic.gdx.physics.box2d.ContactImpulse;
 import com.badlogic.gdx.physics.box2d.ContactListener;
+import com.badlogic.gdx.physics.box2d.Fixture;
 import com.badlogic.gdx.physics.box2d.Manifold;
-import io.github.HustSavior.Play;
 
+/**
+ * Routes each new contact to the one handler registered for its pair of
+ * {@link CollisionCategory categories}, looked up in a table by the two bit
+ * indices. Pairs without a handler are ignored; the category masks should keep
+ * most of them from becoming contacts at all.
+ */
 public class CollisionListener implements ContactListener {
-    private final Play play;
+    public interface ContactHandler {
+        // Fixtures in the order their categories were registered
+        void beginContact(Fixture first, Fixture second);
+    }
+
+    private final ContactHandler[] handlers = new ContactHandler[CollisionCategory.COUNT * CollisionCategory.COUNT];
+    // True where the contact's fixtures come in the opposite order to the registration
+    private final boolean[] swapped = new boolean[handlers.length];
 
-    public CollisionListener(Play play) {
-        this.play = play;
+    public void register(short categoryA, short categoryB, ContactHandler handler) {
+        int a = CollisionCategory.index(categoryA);
+        int b = CollisionCategory.index(categoryB);
+        if (a < 0 || b < 0) {
+            throw new IllegalArgumentException("Not a single collision category: " + categoryA + ", " + categoryB);
+        }
+        handlers[a * CollisionCategory.COUNT + b] = handler;
+        swapped[a * CollisionCategory.COUNT + b] = false;
+        if (a != b) {
+            handlers[b * CollisionCategory.COUNT + a] = handler;
+            swapped[b * CollisionCategory.COUNT + a] = true;
+        }
     }
 
     @Override
     public void beginContact(Contact contact) {
-        play.handleItemCollision(contact);
-        play.handleBulletCollision(contact);
-        play.handleSkillCollision(contact);
+        Fixture fixtureA = contact.getFixtureA();
+        Fixture fixtureB = contact.getFixtureB();
+        int a = CollisionCategory.index(fixtureA.getFilterData().categoryBits);
+        int b = CollisionCategory.index(fixtureB.getFilterData().categoryBits);
+        if (a < 0 || b < 0) return;
+
+        int pair = a * CollisionCategory.COUNT + b;
+        ContactHandler handler = handlers[pair];
+        if (handler == null) return;
+        if (swapped[pair]) {
+            handler.beginContact(fixtureB, fixtureA);
+        } else {
+            handler.beginContact(fixtureA, fixtureB);
+        }
     }
 
     @Override
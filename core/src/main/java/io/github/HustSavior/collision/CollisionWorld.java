@@ -0,0 +1,127 @@
+package io.github.HustSavior.collision;
+
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.MapObject;
+import com.badlogic.gdx.maps.objects.RectangleMapObject;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.FloatArray;
+
+import io.github.HustSavior.utils.GameConfig;
+
+/**
+ * Static wall geometry of a map, read once from the "collisions" layer.
+ *
+ * Rectangle walls are copied into pixel-unit and world-unit arrays, and every
+ * wall (rectangles and polygons) is indexed by a {@link CollisionGrid} in world
+ * units. Nothing here hands out the map's own objects, so the map data is never
+ * modified by collision code. All systems share the instance of the current map
+ * through {@link #get(TiledMap)}.
+ */
+public class CollisionWorld {
+    public static final String COLLISION_LAYER = "collisions";
+
+    private static CollisionWorld instance;
+
+    private final TiledMap map;
+    private final boolean hasCollisionLayer;
+    private final CollisionGrid grid;
+
+    // Rectangle walls: x, y, width, height per wall
+    private final float[] pixelRects;
+    private final float[] worldRects;
+    private final int rectCount;
+
+    public CollisionWorld(TiledMap map) {
+        this(map, new CollisionGrid(map));
+    }
+
+    // With a grid built ahead of time from the same map
+    public CollisionWorld(TiledMap map, CollisionGrid grid) {
+        this.map = map;
+        this.grid = grid;
+
+        FloatArray rects = new FloatArray();
+        MapLayer layer = map.getLayers().get(COLLISION_LAYER);
+        hasCollisionLayer = layer != null;
+        if (layer != null) {
+            for (MapObject object : layer.getObjects()) {
+                if (object instanceof RectangleMapObject) {
+                    Rectangle rect = ((RectangleMapObject) object).getRectangle();
+                    rects.add(rect.x, rect.y, rect.width, rect.height);
+                }
+            }
+        }
+        pixelRects = rects.toArray();
+        worldRects = new float[pixelRects.length];
+        for (int i = 0; i < pixelRects.length; i++) {
+            worldRects[i] = pixelRects[i] / GameConfig.PPM;
+        }
+        rectCount = pixelRects.length / 4;
+    }
+
+    // Shared instance for the given map, rebuilt only when the map changes
+    public static CollisionWorld get(TiledMap map) {
+        if (instance == null || instance.map != map) {
+            instance = new CollisionWorld(map);
+        }
+        return instance;
+    }
+
+    // Makes world the shared instance for its map, e.g. one with a precomputed grid
+    public static void install(CollisionWorld world) {
+        instance = world;
+    }
+
+    public boolean hasCollisionLayer() {
+        return hasCollisionLayer;
+    }
+
+    public CollisionGrid getGrid() {
+        return grid;
+    }
+
+    /** True if the rectangle (world units) overlaps any wall. */
+    public boolean overlapsWorld(float x, float y, float width, float height) {
+        return grid.overlaps(x, y, width, height);
+    }
+
+    /** True if the rectangle (world units) overlaps any wall. */
+    public boolean overlapsWorld(Rectangle bounds) {
+        return grid.overlaps(bounds);
+    }
+
+    /** True if the rectangle (pixels) overlaps any wall. */
+    public boolean overlapsPixels(float x, float y, float width, float height) {
+        return grid.overlaps(x / GameConfig.PPM, y / GameConfig.PPM, width / GameConfig.PPM, height / GameConfig.PPM);
+    }
+
+    /** True if the rectangle (pixels) overlaps any wall. */
+    public boolean overlapsPixels(Rectangle bounds) {
+        return overlapsPixels(bounds.x, bounds.y, bounds.width, bounds.height);
+    }
+
+    /**
+     * Sweeps the rectangle (pixels) by (dx, dy) pixels against the walls. The hit time
+     * is a fraction of the displacement and the normal is unitless, so both apply
+     * directly in pixel space.
+     */
+    public boolean sweepPixels(float x, float y, float width, float height, float dx, float dy, SweepHit hit) {
+        float ppm = GameConfig.PPM;
+        return grid.sweep(x / ppm, y / ppm, width / ppm, height / ppm, dx / ppm, dy / ppm, hit);
+    }
+
+    public int getRectangleCount() {
+        return rectCount;
+    }
+
+    /** Copies rectangle wall i in pixels into out. */
+    public Rectangle getPixelRectangle(int i, Rectangle out) {
+        return out.set(pixelRects[i * 4], pixelRects[i * 4 + 1], pixelRects[i * 4 + 2], pixelRects[i * 4 + 3]);
+    }
+
+    /** Copies rectangle wall i in world units into out. */
+    public Rectangle getWorldRectangle(int i, Rectangle out) {
+        return out.set(worldRects[i * 4], worldRects[i * 4 + 1], worldRects[i * 4 + 2], worldRects[i * 4 + 3]);
+    }
+}
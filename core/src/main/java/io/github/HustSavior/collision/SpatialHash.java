@@ -0,0 +1,157 @@
+package io.github.HustSavior.collision;
+
+import java.util.Arrays;
+
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * Uniform grid of moving points, cleared and refilled every tick. Each cell keeps
+ * a singly linked list threaded through parallel arrays, so inserting is O(1) at
+ * any time and a radius query only visits the cells it overlaps. Points outside
+ * the covered area are clamped into the border cells. Storage grows on demand and
+ * is kept across ticks, so a warmed up hash does not allocate.
+ *
+ * @param <T> the object stored with each point
+ */
+public class SpatialHash<T> {
+    private final float originX;
+    private final float originY;
+    private final float cellSize;
+    private final int columns;
+    private final int rows;
+
+    // First entry of each cell, -1 if empty
+    private final int[] cellHead;
+
+    // Entries: position, owner and next entry in the same cell
+    private float[] x;
+    private float[] y;
+    private int[] next;
+    private Object[] objects;
+    private int size;
+
+    /**
+     * @param width    width of the covered area
+     * @param height   height of the covered area
+     * @param cellSize side of a cell, best close to the usual query radius
+     */
+    public SpatialHash(float originX, float originY, float width, float height, float cellSize, int initialCapacity) {
+        this.originX = originX;
+        this.originY = originY;
+        this.cellSize = cellSize;
+        this.columns = Math.max(1, (int) Math.ceil(width / cellSize));
+        this.rows = Math.max(1, (int) Math.ceil(height / cellSize));
+        this.cellHead = new int[columns * rows];
+        Arrays.fill(cellHead, -1);
+
+        int capacity = Math.max(1, initialCapacity);
+        x = new float[capacity];
+        y = new float[capacity];
+        next = new int[capacity];
+        objects = new Object[capacity];
+    }
+
+    public void clear() {
+        Arrays.fill(cellHead, -1);
+        Arrays.fill(objects, 0, size, null);
+        size = 0;
+    }
+
+    /** Adds a point and returns its entry index, valid until the next {@link #clear()}. */
+    public int insert(T object, float px, float py) {
+        if (size == x.length) {
+            grow();
+        }
+        int entry = size++;
+        int cell = cellY(py) * columns + cellX(px);
+        x[entry] = px;
+        y[entry] = py;
+        objects[entry] = object;
+        next[entry] = cellHead[cell];
+        cellHead[cell] = entry;
+        return entry;
+    }
+
+    /**
+     * Appends to out the entries within radius of (px, py), in no particular order.
+     * out is not cleared.
+     *
+     * @return the number of entries added
+     */
+    public int query(float px, float py, float radius, IntArray out) {
+        return query(px, py, radius, out, Integer.MAX_VALUE);
+    }
+
+    /** Like {@link #query(float, float, float, IntArray)} but stops after maxResults entries. */
+    public int query(float px, float py, float radius, IntArray out, int maxResults) {
+        int x0 = cellX(px - radius), y0 = cellY(py - radius);
+        int x1 = cellX(px + radius), y1 = cellY(py + radius);
+        float radiusSquared = radius * radius;
+        int found = 0;
+        for (int cy = y0; cy <= y1; cy++) {
+            for (int cx = x0; cx <= x1; cx++) {
+                for (int entry = cellHead[cy * columns + cx]; entry != -1; entry = next[entry]) {
+                    float dx = x[entry] - px;
+                    float dy = y[entry] - py;
+                    if (dx * dx + dy * dy <= radiusSquared) {
+                        out.add(entry);
+                        if (++found == maxResults) return found;
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    /** True if any entry lies within radius of (px, py); stops at the first one. */
+    public boolean any(float px, float py, float radius) {
+        int x0 = cellX(px - radius), y0 = cellY(py - radius);
+        int x1 = cellX(px + radius), y1 = cellY(py + radius);
+        float radiusSquared = radius * radius;
+        for (int cy = y0; cy <= y1; cy++) {
+            for (int cx = x0; cx <= x1; cx++) {
+                for (int entry = cellHead[cy * columns + cx]; entry != -1; entry = next[entry]) {
+                    float dx = x[entry] - px;
+                    float dy = y[entry] - py;
+                    if (dx * dx + dy * dy <= radiusSquared) return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    public T get(int entry) {
+        return (T) objects[entry];
+    }
+
+    public float getX(int entry) {
+        return x[entry];
+    }
+
+    public float getY(int entry) {
+        return y[entry];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private int cellX(float px) {
+        int cell = (int) ((px - originX) / cellSize);
+        return cell < 0 ? 0 : Math.min(cell, columns - 1);
+    }
+
+    private int cellY(float py) {
+        int cell = (int) ((py - originY) / cellSize);
+        return cell < 0 ? 0 : Math.min(cell, rows - 1);
+    }
+
+    private void grow() {
+        int capacity = x.length * 2;
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        next = Arrays.copyOf(next, capacity);
+        objects = Arrays.copyOf(objects, capacity);
+    }
+}
@@ -0,0 +1,22 @@
+package io.github.HustSavior.collision;
+
+/**
+ * Result of a swept box query. Reused by callers so sweeping does not allocate.
+ * The normal is the unit surface normal of the wall that was hit, pointing back
+ * towards the moving box.
+ */
+public class SweepHit {
+    // Fraction of the displacement travelled before first contact, 0..1
+    public float time;
+    public float normalX;
+    public float normalY;
+    // The box already overlapped a wall before moving; time is 0 and the normal is undefined
+    public boolean startsInside;
+
+    void reset() {
+        time = 1f;
+        normalX = 0;
+        normalY = 0;
+        startsInside = false;
+    }
+}
@@ -1,67 +1,32 @@
 package io.github.HustSavior.collision;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
-import com.badlogic.gdx.maps.MapLayer;
-import com.badlogic.gdx.maps.MapObject;
-import com.badlogic.gdx.maps.MapObjects;
-import com.badlogic.gdx.maps.objects.PolygonMapObject;
-import com.badlogic.gdx.maps.objects.RectangleMapObject;
 import com.badlogic.gdx.maps.tiled.TiledMap;
-import com.badlogic.gdx.math.Intersector;
-import com.badlogic.gdx.math.Polygon;
 import com.badlogic.gdx.math.Rectangle;
 
-import io.github.HustSavior.utils.GameConfig;
+import io.github.HustSavior.utils.log.GameLog;
 
 public class TileCollision {
-    private TiledMap map;
-    private MapLayer collisionLayer;
-    private ShapeRenderer shapeRenderer;
+    private final CollisionWorld collisionWorld;
 
     public TileCollision(TiledMap map) {
-        this.map = map;
-        this.collisionLayer = map.getLayers().get("collisions");
-        this.shapeRenderer = new ShapeRenderer();
-        if (collisionLayer == null) {
-            Gdx.app.error("TileCollision", "No 'collisions' layer found in map!");
+        this(CollisionWorld.get(map));
+    }
+
+    public TileCollision(CollisionWorld collisionWorld) {
+        this.collisionWorld = collisionWorld;
+        if (!collisionWorld.hasCollisionLayer()) {
+            GameLog.error("TileCollision", "No 'collisions' layer found in map!");
         }
     }
 
+    // bounds in world units
     public boolean collidesWith(Rectangle bounds) {
-        if (collisionLayer == null) return false;
-
-        MapObjects objects = collisionLayer.getObjects();
-        Rectangle monsterBounds = bounds;
-
-        for (MapObject object : objects) {
-            if (object instanceof RectangleMapObject) {
-                Rectangle rect = ((RectangleMapObject) object).getRectangle();
-                Rectangle wallBounds = new Rectangle(
-                    rect.x / GameConfig.PPM,
-                    rect.y / GameConfig.PPM,
-                    rect.width / GameConfig.PPM,
-                    rect.height / GameConfig.PPM
-                );
-
-                if (monsterBounds.overlaps(wallBounds)) {
-                    System.out.println("Colliding");
-                    return true;
-                }
-            } else if (object instanceof PolygonMapObject) {
-                Polygon poly = ((PolygonMapObject) object).getPolygon();
-                Polygon rectPoly = new Polygon(new float[] {
-                    monsterBounds.x, monsterBounds.y,
-                    monsterBounds.x + monsterBounds.width, monsterBounds.y,
-                    monsterBounds.x + monsterBounds.width, monsterBounds.y + monsterBounds.height,
-                    monsterBounds.x, monsterBounds.y + monsterBounds.height
-                });
-                if (Intersector.overlapConvexPolygons(rectPoly, poly)) {
-                    System.out.print("Colliding");
-                    return true;
-                }
-            }
+        // Broadphase over the pre-scaled wall index instead of walking the layer
+        if (collisionWorld.overlapsWorld(bounds)) {
+            if (GameLog.DEBUG) GameLog.debug("TileCollision", "Colliding at " + bounds);
+            return true;
         }
         return false;
     }
@@ -70,58 +35,32 @@ public class TileCollision {
         return collidesWith(bounds);
     }
 
+    // bounds in pixels
     public boolean isColliding(Rectangle bounds) {
-        // Get collision layer from map
-        MapLayer collisionLayer = map.getLayers().get("collisions");
-        if (collisionLayer == null) return false;
+        return collisionWorld.overlapsPixels(bounds);
+    }
 
-        // Check collision with all objects in layer
-        for (MapObject object : collisionLayer.getObjects()) {
-            if (object instanceof RectangleMapObject) {
-                Rectangle rect = ((RectangleMapObject) object).getRectangle();
-                if (bounds.overlaps(rect)) {
-                    return true;
-                }
-            }
-        }
-        return false;
+    public CollisionGrid getCollisionGrid() {
+        return collisionWorld.getGrid();
     }
 
-   
+    public CollisionWorld getCollisionWorld() {
+        return collisionWorld;
+    }
 
     // Add this method to render debug lines
     public void renderDebug(ShapeRenderer shapeRenderer) {
-        if (collisionLayer == null) return;
-
         // Draw collision objects
         shapeRenderer.setColor(Color.RED); // Red for wall bounds
-        for (MapObject object : collisionLayer.getObjects()) {
-            if (object instanceof RectangleMapObject) {
-                Rectangle rect = ((RectangleMapObject) object).getRectangle();
-                Rectangle scaledRect = new Rectangle(
-                    rect.x / GameConfig.PPM,
-                    rect.y / GameConfig.PPM,
-                    rect.width / GameConfig.PPM,
-                    rect.height / GameConfig.PPM
-                );
-                // Draw wall bounds
-                shapeRenderer.rect(
-                    scaledRect.x * GameConfig.PPM, 
-                    scaledRect.y * GameConfig.PPM,
-                    scaledRect.width * GameConfig.PPM,
-                    scaledRect.height * GameConfig.PPM
-                );
-                
-                // Debug text for wall position
-               
-            }
+        Rectangle rect = new Rectangle();
+        for (int i = 0; i < collisionWorld.getRectangleCount(); i++) {
+            collisionWorld.getPixelRectangle(i, rect);
+            // Draw wall bounds
+            shapeRenderer.rect(rect.x, rect.y, rect.width, rect.height);
         }
     }
 
-    // Add to dispose method or create one if it doesn't exist
+    // Nothing to free anymore; the wall data is shared through CollisionWorld
     public void dispose() {
-        if (shapeRenderer != null) {
-            shapeRenderer.dispose();
-        }
     }
-} 
\ No newline at end of file
+}
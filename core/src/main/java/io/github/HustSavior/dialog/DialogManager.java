@@ -1,11 +1,11 @@
 package io.github.HustSavior.dialog;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.utils.Disposable;
 
 import io.github.HustSavior.input.InputHandler;
+import io.github.HustSavior.utils.log.GameLog;
 
 public class DialogManager implements Disposable {
     private Stage stage;
@@ -18,7 +18,7 @@ public class DialogManager implements Disposable {
     
     public DialogManager(Stage stage, Skin skin, InputHandler inputHandler) {
         this.stage = stage;
-        this.skin = new Skin(Gdx.files.internal("UI/dialogue/dialog.json"));
+        this.skin = skin;
         this.inputHandler = inputHandler;
         
         this.warningDialog = new WarningDialog(stage, this.skin, inputHandler);
@@ -37,7 +37,7 @@ public class DialogManager implements Disposable {
     }
 
     public void showItemPickupDialog(String message, String imagePath, Runnable onClose) {
-        Gdx.app.log("DialogManager", "Showing item pickup dialog: " + message);
+        GameLog.info("DialogManager", "Showing item pickup dialog: " + message);
         dialogActive = true;
         itemPickupDialog.show(message, imagePath, () -> {
             dialogActive = false;
@@ -65,9 +65,8 @@ public class DialogManager implements Disposable {
             itemPickupDialog.update(delta);
         }
         
-        // Add debug logging
-        if (dialogActive) {
-            Gdx.app.log("DialogManager", "Dialog is active");
+        if (GameLog.DEBUG && dialogActive) {
+            GameLog.debug("DialogManager", "Dialog is active");
         }
     }
 
@@ -83,8 +82,5 @@ public class DialogManager implements Disposable {
         if (itemPickupDialog != null) {
             itemPickupDialog.dispose();
         }
-        if (skin != null) {
-            skin.dispose();
-        }
     }
 } 
\ No newline at end of file
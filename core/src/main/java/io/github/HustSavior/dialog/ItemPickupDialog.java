@@ -1,7 +1,6 @@
 package io.github.HustSavior.dialog;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Dialog;
 import com.badlogic.gdx.scenes.scene2d.ui.Image;
@@ -11,6 +10,7 @@ import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.utils.Align;
 import com.badlogic.gdx.utils.Disposable;
 
+import io.github.HustSavior.assets.GameAssets;
 import io.github.HustSavior.input.InputHandler;
 
 public class ItemPickupDialog extends BaseDialog implements Disposable {
@@ -51,9 +51,9 @@ public class ItemPickupDialog extends BaseDialog implements Disposable {
             
             Table contentTable = new Table();
             
-            Texture itemTexture = new Texture(Gdx.files.internal(imagePath));
-            Image itemImage = new Image(itemTexture);
-            float aspectRatio = (float)itemTexture.getWidth() / itemTexture.getHeight();
+            TextureRegion itemRegion = GameAssets.getInstance().getRegion(imagePath);
+            Image itemImage = new Image(itemRegion);
+            float aspectRatio = (float)itemRegion.getRegionWidth() / itemRegion.getRegionHeight();
             float targetHeight = 64f;
             float targetWidth = targetHeight * aspectRatio;
             
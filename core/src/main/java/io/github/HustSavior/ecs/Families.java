@@ -0,0 +1,21 @@
+package io.github.HustSavior.ecs;
+
+import com.badlogic.ashley.core.Family;
+
+import io.github.HustSavior.ecs.components.BulletComponent;
+import io.github.HustSavior.ecs.components.MonsterComponent;
+import io.github.HustSavior.ecs.components.PickupComponent;
+import io.github.HustSavior.ecs.components.TransformComponent;
+import io.github.HustSavior.ecs.components.VelocityComponent;
+
+public final class Families {
+    public static final Family MONSTERS = Family.all(MonsterComponent.class, TransformComponent.class, VelocityComponent.class).get();
+    public static final Family BULLETS = Family.all(BulletComponent.class, TransformComponent.class, VelocityComponent.class).get();
+    public static final Family PICKUPS = Family.all(PickupComponent.class).get();
+    // Everything that moves by plain integration; bullets sweep against the walls instead
+    public static final Family MOVING = Family.all(TransformComponent.class, VelocityComponent.class)
+        .exclude(BulletComponent.class).get();
+
+    private Families() {
+    }
+}
@@ -0,0 +1,21 @@
+package io.github.HustSavior.ecs;
+
+import com.badlogic.ashley.core.ComponentMapper;
+
+import io.github.HustSavior.ecs.components.BulletComponent;
+import io.github.HustSavior.ecs.components.MonsterComponent;
+import io.github.HustSavior.ecs.components.PickupComponent;
+import io.github.HustSavior.ecs.components.TransformComponent;
+import io.github.HustSavior.ecs.components.VelocityComponent;
+
+// Shared component lookups; a mapper is an index into the entity's component bag
+public final class Mappers {
+    public static final ComponentMapper<TransformComponent> TRANSFORM = ComponentMapper.getFor(TransformComponent.class);
+    public static final ComponentMapper<VelocityComponent> VELOCITY = ComponentMapper.getFor(VelocityComponent.class);
+    public static final ComponentMapper<MonsterComponent> MONSTER = ComponentMapper.getFor(MonsterComponent.class);
+    public static final ComponentMapper<BulletComponent> BULLET = ComponentMapper.getFor(BulletComponent.class);
+    public static final ComponentMapper<PickupComponent> PICKUP = ComponentMapper.getFor(PickupComponent.class);
+
+    private Mappers() {
+    }
+}
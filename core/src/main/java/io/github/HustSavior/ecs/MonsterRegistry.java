@@ -0,0 +1,85 @@
+package io.github.HustSavior.ecs;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntityListener;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.SnapshotArray;
+
+import io.github.HustSavior.collision.SpatialHash;
+
+/**
+ * The monsters of one simulation, for code outside the engine such as skills.
+ * Listeners hear about a monster once when it enters the engine and once when it
+ * leaves, so nobody has to poll. Alive monsters and radius lookups come from the
+ * monster hash, rebuilt at the start of every tick.
+ */
+public class MonsterRegistry implements EntityListener {
+    public interface Listener {
+        void onMonsterSpawned(Entity monster);
+
+        // The entity goes back to the pool right after, do not keep it
+        void onMonsterDespawned(Entity monster);
+    }
+
+    private final ImmutableArray<Entity> monsters;
+    private final SpatialHash<Entity> alive;
+    private final SnapshotArray<Listener> listeners = new SnapshotArray<>(Listener.class);
+
+    public MonsterRegistry(Engine engine, SpatialHash<Entity> monsterHash) {
+        this.monsters = engine.getEntitiesFor(Families.MONSTERS);
+        this.alive = monsterHash;
+        engine.addEntityListener(Families.MONSTERS, this);
+    }
+
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Listener listener) {
+        listeners.removeValue(listener, true);
+    }
+
+    // Every monster in the engine, dying ones included
+    public ImmutableArray<Entity> getAll() {
+        return monsters;
+    }
+
+    // Monsters alive at the start of the tick; indices are valid until the next tick
+    public int getAliveCount() {
+        return alive.size();
+    }
+
+    public Entity getAlive(int index) {
+        return alive.get(index);
+    }
+
+    /**
+     * Appends to out the indices of alive monsters whose centre lies within radius
+     * (pixels) of (x, y); read them back with {@link #getAlive(int)}.
+     *
+     * @return the number of indices added
+     */
+    public int queryRadius(float x, float y, float radius, IntArray out) {
+        return alive.query(x, y, radius, out);
+    }
+
+    @Override
+    public void entityAdded(Entity entity) {
+        Listener[] items = listeners.begin();
+        for (int i = 0, n = listeners.size; i < n; i++) {
+            items[i].onMonsterSpawned(entity);
+        }
+        listeners.end();
+    }
+
+    @Override
+    public void entityRemoved(Entity entity) {
+        Listener[] items = listeners.begin();
+        for (int i = 0, n = listeners.size; i < n; i++) {
+            items[i].onMonsterDespawned(entity);
+        }
+        listeners.end();
+    }
+}
@@ -0,0 +1,36 @@
+package io.github.HustSavior.ecs;
+
+/**
+ * Stats and sprite sheets of one kind of monster, read from {@link MonsterTypes#DATA_FILE}.
+ * Instances are shared by every monster of the kind and must not be modified.
+ * Ranges and speeds are in pixels.
+ */
+public class MonsterType {
+    public String name;
+    public float hp;
+    public float attack;
+    public float detectionRange;
+    public float attackRange;
+    public float attackCooldown;
+    public float chaseSpeed;
+    public float width = 32f;
+    public float height = 32f;
+    public float spawnWeight = 1f;
+    public Sheets sheets;
+
+    // Sheets live in sprites/monster/<name>/; a missing run sheet reuses idle
+    public static class Sheets {
+        public Sheet idle;
+        public Sheet run;
+        public Sheet attack;
+        public Sheet takeHit;
+        public Sheet death;
+    }
+
+    // A single row of equally wide frames
+    public static class Sheet {
+        public String file;
+        public int frames;
+        public float frameDuration;
+    }
+}
@@ -0,0 +1,82 @@
+package io.github.HustSavior.ecs;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.ObjectMap;
+
+import io.github.HustSavior.utils.log.GameLog;
+
+/**
+ * Every monster kind of the game. Adding a monster is a new entry in
+ * {@link #DATA_FILE} and a folder of sprite sheets, no code change.
+ */
+public class MonsterTypes {
+    public static final String DATA_FILE = "data/monsters.json";
+
+    private static MonsterTypes instance;
+
+    private final Array<MonsterType> types;
+    private final ObjectMap<String, MonsterType> byName = new ObjectMap<>();
+    private final float totalWeight;
+    private final float maxRadius;
+
+    @SuppressWarnings("unchecked")
+    private MonsterTypes() {
+        types = new Json().fromJson(Array.class, MonsterType.class, Gdx.files.internal(DATA_FILE));
+        if (types == null || types.isEmpty()) {
+            throw new GdxRuntimeException("No monster types in " + DATA_FILE);
+        }
+
+        float weight = 0;
+        float radius = 0;
+        for (MonsterType type : types) {
+            if (type.sheets == null || type.sheets.idle == null || type.sheets.attack == null
+                || type.sheets.takeHit == null || type.sheets.death == null) {
+                throw new GdxRuntimeException("Monster type " + type.name + " is missing sprite sheets");
+            }
+            byName.put(type.name, type);
+            weight += type.spawnWeight;
+            radius = Math.max(radius, (float) Math.sqrt(type.width * type.width + type.height * type.height) / 2);
+        }
+        totalWeight = weight;
+        maxRadius = radius;
+        GameLog.info("MonsterTypes", "Loaded " + types.size + " monster types");
+    }
+
+    public static MonsterTypes getInstance() {
+        if (instance == null) {
+            instance = new MonsterTypes();
+        }
+        return instance;
+    }
+
+    public MonsterType get(String name) {
+        MonsterType type = byName.get(name);
+        if (type == null) {
+            throw new IllegalArgumentException("Unknown monster type: " + name);
+        }
+        return type;
+    }
+
+    public Array<MonsterType> getAll() {
+        return types;
+    }
+
+    // Radius of a circle around the centre that holds the hitbox of any kind, in pixels
+    public float getMaxRadius() {
+        return maxRadius;
+    }
+
+    // Picks a type with probability proportional to its spawn weight
+    public MonsterType random() {
+        float pick = MathUtils.random(totalWeight);
+        for (MonsterType type : types) {
+            pick -= type.spawnWeight;
+            if (pick <= 0) return type;
+        }
+        return types.peek();
+    }
+}
@@ -0,0 +1,84 @@
+package io.github.HustSavior.ecs;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.math.Rectangle;
+
+import io.github.HustSavior.ecs.components.MonsterComponent;
+import io.github.HustSavior.ecs.components.MonsterState;
+import io.github.HustSavior.ecs.components.TransformComponent;
+import io.github.HustSavior.ecs.components.VelocityComponent;
+import io.github.HustSavior.utils.GameConfig;
+import io.github.HustSavior.utils.log.GameLog;
+
+// What other systems (skills, collisions) may do to a monster entity
+public final class Monsters {
+    private static final float PUSH_RECOVERY_TIME = 0.5f;
+
+    private static int lastHitStamp;
+
+    private Monsters() {
+    }
+
+    public static boolean isMonster(Entity entity) {
+        return Mappers.MONSTER.has(entity);
+    }
+
+    public static boolean isAlive(Entity entity) {
+        return Mappers.MONSTER.get(entity).isAlive();
+    }
+
+    public static void takeDamage(Entity entity, float damage) {
+        MonsterComponent monster = Mappers.MONSTER.get(entity);
+        if (!monster.isAlive()) return;
+
+        monster.hp -= damage;
+        if (GameLog.DEBUG) GameLog.debug("Monster", "Taking damage: " + damage + ", HP: " + monster.hp);
+
+        if (monster.hp <= 0) {
+            // Cancel everything else; the animation system removes the entity once the death animation ends
+            monster.hp = 0;
+            monster.state = MonsterState.DEATH;
+            monster.stateTime = 0;
+            monster.attackTimer = monster.type.attackCooldown;
+            monster.aggro = false;
+            monster.pushRecoveryTimer = 0;
+            Mappers.VELOCITY.get(entity).setZero();
+            return;
+        }
+
+        monster.changeState(MonsterState.TAKE_HIT);
+        monster.stateTime = 0;
+    }
+
+    // A stamp no monster carries yet; a skill takes one per cast so each monster is hit once per cast
+    public static int newHitStamp() {
+        if (++lastHitStamp == 0) lastHitStamp = 1; // 0 is the stamp of a fresh monster
+        return lastHitStamp;
+    }
+
+    // Marks the monster as hit by the cast; false if that cast has already hit it
+    public static boolean markHit(Entity entity, int stamp) {
+        MonsterComponent monster = Mappers.MONSTER.get(entity);
+        if (monster.hitStamp == stamp) return false;
+        monster.hitStamp = stamp;
+        return true;
+    }
+
+    // Adds a knockback (pixels per second) unless the monster is still recovering from the last one
+    public static void push(Entity entity, float velocityX, float velocityY) {
+        MonsterComponent monster = Mappers.MONSTER.get(entity);
+        if (!monster.isAlive() || monster.pushRecoveryTimer > 0) return;
+        VelocityComponent velocity = Mappers.VELOCITY.get(entity);
+        velocity.x += velocityX;
+        velocity.y += velocityY;
+        monster.pushRecoveryTimer = PUSH_RECOVERY_TIME;
+    }
+
+    /** Writes the monster's hitbox in world units into out. */
+    public static Rectangle getBounds(Entity entity, Rectangle out) {
+        TransformComponent transform = Mappers.TRANSFORM.get(entity);
+        float width = transform.width / GameConfig.PPM;
+        float height = transform.height / GameConfig.PPM;
+        return out.set(transform.x / GameConfig.PPM - width / 2, transform.y / GameConfig.PPM - height / 2, width, height);
+    }
+}
@@ -0,0 +1,23 @@
+package io.github.HustSavior.ecs.components;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
+
+public class BulletComponent implements Component, Pool.Poolable {
+    public static final float WIDTH = 12f;
+    public static final float HEIGHT = 5f;
+
+    public static final int TEXTURE_PENCIL = 0;
+    public static final int TEXTURE_PEN = 1;
+
+    public float rotation; // Degrees, follows the velocity
+    public int collisions;
+    public int texture = TEXTURE_PENCIL;
+
+    @Override
+    public void reset() {
+        rotation = 0;
+        collisions = 0;
+        texture = TEXTURE_PENCIL;
+    }
+}
@@ -0,0 +1,69 @@
+package io.github.HustSavior.ecs.components;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Pool;
+
+import io.github.HustSavior.ecs.MonsterType;
+import io.github.HustSavior.entities.MonsterAnimations;
+
+/**
+ * Per-monster state. Stats that are the same for every monster of a kind live in
+ * the shared {@link MonsterType}, and the animations are shared through
+ * MonsterAnimationRegistry, so only what actually changes is stored here.
+ */
+public class MonsterComponent implements Component, Pool.Poolable {
+    public static final float INITIAL_ATTACK_DELAY = 2f;
+
+    public int id; // Spawn order within a game, see MonsterSpawnManager; a stable key for tie-breaks
+    public MonsterType type;
+    public MonsterAnimations animations;
+
+    public float hp;
+    public MonsterState state = MonsterState.IDLE;
+    public float stateTime;
+    public float attackTimer = INITIAL_ATTACK_DELAY;
+    public float pushRecoveryTimer;
+    public boolean flipped;
+    public boolean aggro;
+    public int hitStamp; // Last skill cast that hit this monster, see Monsters.newHitStamp
+
+    public boolean isAlive() {
+        return hp > 0 && state != MonsterState.DEATH;
+    }
+
+    // Switches state and restarts its animation; a dead monster stays dead
+    public void changeState(MonsterState newState) {
+        if (state == MonsterState.DEATH) return;
+        if (state != newState) {
+            state = newState;
+            stateTime = 0;
+        }
+    }
+
+    public Animation<TextureRegion> getCurrentAnimation() {
+        switch (state) {
+            case RUNNING: return animations.run;
+            case ATTACKING: return animations.attack;
+            case TAKE_HIT: return animations.takeHit;
+            case DEATH: return animations.death;
+            default: return animations.idle;
+        }
+    }
+
+    @Override
+    public void reset() {
+        id = 0;
+        type = null;
+        animations = null;
+        hp = 0;
+        state = MonsterState.IDLE;
+        stateTime = 0;
+        attackTimer = INITIAL_ATTACK_DELAY;
+        pushRecoveryTimer = 0;
+        flipped = false;
+        aggro = false;
+        hitStamp = 0;
+    }
+}
@@ -0,0 +1,5 @@
+package io.github.HustSavior.ecs.components;
+
+public enum MonsterState {
+    IDLE, RUNNING, ATTACKING, TAKE_HIT, DEATH
+}
@@ -0,0 +1,21 @@
+package io.github.HustSavior.ecs.components;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
+
+import io.github.HustSavior.items.Item;
+
+public class PickupComponent implements Component, Pool.Poolable {
+    public static final int REGION_UNRESOLVED = -2;
+    public static final int REGION_NONE = -1;
+
+    public Item item;
+    // Index of the "_bounds" rectangle the item lies in, resolved once by PickupSystem
+    public int region = REGION_UNRESOLVED;
+
+    @Override
+    public void reset() {
+        item = null;
+        region = REGION_UNRESOLVED;
+    }
+}
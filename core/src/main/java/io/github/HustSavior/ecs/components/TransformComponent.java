@@ -0,0 +1,44 @@
+package io.github.HustSavior.ecs.components;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
+
+/**
+ * Centre position and footprint of an entity in pixels. previousX/previousY hold
+ * the position at the start of the current tick, so renderers can blend between
+ * the last two ticks.
+ */
+public class TransformComponent implements Component, Pool.Poolable {
+    public float x;
+    public float y;
+    public float previousX;
+    public float previousY;
+    public float width;
+    public float height;
+
+    public void setPosition(float x, float y) {
+        this.x = x;
+        this.y = y;
+        previousX = x;
+        previousY = y;
+    }
+
+    public void savePrevious() {
+        previousX = x;
+        previousY = y;
+    }
+
+    public float getRenderX(float alpha) {
+        return previousX + (x - previousX) * alpha;
+    }
+
+    public float getRenderY(float alpha) {
+        return previousY + (y - previousY) * alpha;
+    }
+
+    @Override
+    public void reset() {
+        x = y = previousX = previousY = 0;
+        width = height = 0;
+    }
+}
@@ -0,0 +1,28 @@
+package io.github.HustSavior.ecs.components;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
+
+// Pixels per second
+public class VelocityComponent implements Component, Pool.Poolable {
+    public float x;
+    public float y;
+
+    public void set(float x, float y) {
+        this.x = x;
+        this.y = y;
+    }
+
+    public void setZero() {
+        x = y = 0;
+    }
+
+    public boolean isZero() {
+        return x == 0 && y == 0;
+    }
+
+    @Override
+    public void reset() {
+        x = y = 0;
+    }
+}
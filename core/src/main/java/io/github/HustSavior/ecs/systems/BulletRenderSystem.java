@@ -0,0 +1,59 @@
+package io.github.HustSavior.ecs.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Rectangle;
+
+import io.github.HustSavior.assets.GameAssets;
+import io.github.HustSavior.ecs.Families;
+import io.github.HustSavior.ecs.Mappers;
+import io.github.HustSavior.ecs.components.BulletComponent;
+import io.github.HustSavior.ecs.components.TransformComponent;
+
+/**
+ * Draws the bullets in view, in one pass since both sprites share a page of
+ * the game atlas. Called by Play like {@link MonsterRenderSystem}.
+ */
+public class BulletRenderSystem extends IteratingSystem {
+    private final TextureRegion[] regions = new TextureRegion[2];
+
+    private SpriteBatch batch;
+    private Rectangle viewBounds;
+    private float alpha;
+
+    public BulletRenderSystem() {
+        super(Families.BULLETS);
+        setProcessing(false);
+        regions[BulletComponent.TEXTURE_PENCIL] = GameAssets.getInstance().getRegion("bullets/pencil.png");
+        regions[BulletComponent.TEXTURE_PEN] = GameAssets.getInstance().getRegion("bullets/pen.png");
+    }
+
+    public void render(SpriteBatch batch, Rectangle viewBounds, float alpha) {
+        this.batch = batch;
+        this.viewBounds = viewBounds;
+        this.alpha = alpha;
+        update(0);
+        this.batch = null;
+        this.viewBounds = null;
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        BulletComponent bullet = Mappers.BULLET.get(entity);
+        TransformComponent transform = Mappers.TRANSFORM.get(entity);
+        float x = transform.getRenderX(alpha);
+        float y = transform.getRenderY(alpha);
+        if (!viewBounds.contains(x, y)) return;
+
+        float width = BulletComponent.WIDTH;
+        float height = BulletComponent.HEIGHT;
+        batch.draw(regions[bullet.texture],
+            x - width / 2, y - height / 2,
+            width / 2, height / 2,
+            width, height,
+            1, 1,
+            bullet.rotation);
+    }
+}
@@ -0,0 +1,83 @@
+package io.github.HustSavior.ecs.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.badlogic.gdx.math.MathUtils;
+
+import io.github.HustSavior.collision.CollisionWorld;
+import io.github.HustSavior.collision.SweepHit;
+import io.github.HustSavior.ecs.Families;
+import io.github.HustSavior.ecs.Mappers;
+import io.github.HustSavior.ecs.components.BulletComponent;
+import io.github.HustSavior.ecs.components.TransformComponent;
+import io.github.HustSavior.ecs.components.VelocityComponent;
+
+/**
+ * Moves bullets and bounces them off walls. Each step sweeps the hitbox against
+ * the walls so a bullet cannot tunnel through them at any speed; on contact it
+ * stops at the time of impact, reflects about the wall normal and spends the rest
+ * of the step on the new heading. Spent bullets are removed from the engine.
+ */
+public class BulletSystem extends IteratingSystem {
+    public static final int PRIORITY = 3;
+
+    private static final int MAX_COLLISIONS = 3;
+    private static final int MAX_BOUNCES_PER_STEP = 3; // Wall contacts resolved within one tick, e.g. a corner
+    private static final float CONTACT_SKIN = 0.01f; // Pixels kept between a bullet and the wall it hit
+
+    private final CollisionWorld collisionWorld;
+    private final SweepHit sweepHit = new SweepHit();
+
+    public BulletSystem(CollisionWorld collisionWorld) {
+        super(Families.BULLETS, PRIORITY);
+        this.collisionWorld = collisionWorld;
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        TransformComponent transform = Mappers.TRANSFORM.get(entity);
+        transform.savePrevious();
+        if (!move(transform, Mappers.VELOCITY.get(entity), Mappers.BULLET.get(entity), deltaTime)) {
+            getEngine().removeEntity(entity);
+        }
+    }
+
+    // Returns false if the bullet should be removed
+    private boolean move(TransformComponent transform, VelocityComponent velocity, BulletComponent bullet, float delta) {
+        float remaining = delta;
+        for (int bounce = 0; bounce <= MAX_BOUNCES_PER_STEP && remaining > 0; bounce++) {
+            float dx = velocity.x * remaining;
+            float dy = velocity.y * remaining;
+            if (!collisionWorld.sweepPixels(transform.x - BulletComponent.WIDTH / 2, transform.y - BulletComponent.HEIGHT / 2,
+                    BulletComponent.WIDTH, BulletComponent.HEIGHT, dx, dy, sweepHit)) {
+                transform.x += dx;
+                transform.y += dy;
+                return true;
+            }
+            if (sweepHit.startsInside) {
+                return false; // Spawned inside a wall
+            }
+
+            // Stop just short of the wall so the next sweep does not start inside it
+            float length = (float) Math.sqrt(dx * dx + dy * dy);
+            float time = Math.max(0, sweepHit.time - CONTACT_SKIN / length);
+            transform.x += dx * time;
+            transform.y += dy * time;
+            remaining *= 1 - sweepHit.time;
+
+            if (++bullet.collisions >= MAX_COLLISIONS) {
+                return false;
+            }
+            reflect(velocity, bullet, sweepHit.normalX, sweepHit.normalY);
+        }
+        return true;
+    }
+
+    // Reflects the velocity about the unit normal, keeping its speed
+    private static void reflect(VelocityComponent velocity, BulletComponent bullet, float normalX, float normalY) {
+        float dot = velocity.x * normalX + velocity.y * normalY;
+        velocity.x -= 2 * dot * normalX;
+        velocity.y -= 2 * dot * normalY;
+        bullet.rotation = MathUtils.atan2(velocity.y, velocity.x) * MathUtils.radiansToDegrees;
+    }
+}
@@ -0,0 +1,312 @@
+package io.github.HustSavior.ecs.systems;
+
+import java.util.concurrent.RecursiveAction;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+
+import io.github.HustSavior.collision.CollisionWorld;
+import io.github.HustSavior.collision.SpatialHash;
+import io.github.HustSavior.ecs.Families;
+import io.github.HustSavior.ecs.Mappers;
+import io.github.HustSavior.ecs.MonsterType;
+import io.github.HustSavior.ecs.components.MonsterComponent;
+import io.github.HustSavior.ecs.components.MonsterState;
+import io.github.HustSavior.ecs.components.TransformComponent;
+import io.github.HustSavior.ecs.components.VelocityComponent;
+import io.github.HustSavior.entities.Player;
+import io.github.HustSavior.pathfinding.FlowField;
+import io.github.HustSavior.utils.GameConfig;
+
+/**
+ * Decides every monster's velocity for the tick: idle outside its detection
+ * range, attack when in range and off cooldown, otherwise chase along the shared
+ * flow field while keeping apart from its neighbours and sliding along walls.
+ * Positions are not touched here, {@link MovementSystem} integrates them next.
+ *
+ * The tick runs in two phases. In the think phase each monster only reads shared
+ * data that stays fixed for the tick (a snapshot of the player position, the
+ * flow field, the walls and the neighbour hash) and only writes its own
+ * components, so large hordes are split into chunks that run on the fork-join
+ * common pool. Effects on anything else, i.e. attacks on the player, are queued
+ * per chunk and applied afterwards on the calling thread in monster order, so
+ * the outcome does not depend on how the chunks were scheduled.
+ *
+ * Run single-threaded with -Dhustsavior.serialMonsterAI=true.
+ */
+public class MonsterAISystem extends IteratingSystem {
+    public static final int PRIORITY = 0;
+
+    private static final float PPM = GameConfig.PPM;
+    private static final float SWARM_RADIUS = 2.0f; // Radius for swarm behavior (world units)
+    private static final float PERSONAL_SPACE = 0.3f; // Minimum distance between monsters (world units)
+    private static final float COHESION_WEIGHT = 0.2f; // Pull towards the centre of nearby monsters
+    private static final int MAX_NEIGHBOURS = 24; // Neighbours considered per tick, bounds the cost in dense hordes
+    private static final float PUSH_FORCE = 3.0f; // Weight of separation against the chase direction
+
+    // Hordes smaller than this are not worth handing to other threads
+    private static final int PARALLEL_THRESHOLD = 256;
+    private static final int CHUNK_SIZE = 128;
+    private static final boolean SERIAL = Boolean.getBoolean("hustsavior.serialMonsterAI");
+
+    private final Player player;
+    private final FlowField flowField;
+    private final CollisionWorld collisionWorld;
+    // Monster positions of the current tick, refilled by MonsterSpawnManager
+    private final SpatialHash<Entity> neighbours;
+
+    // Player position for the whole tick; Player.getPosition() reuses one vector and is not safe to share
+    private float playerX;
+    private float playerY;
+    private float delta;
+
+    // Chunk 0 also serves the serial path; chunks are kept and reused across ticks
+    private final Array<ThinkChunk> chunks = new Array<>();
+
+    public MonsterAISystem(Player player, FlowField flowField, CollisionWorld collisionWorld, SpatialHash<Entity> neighbours) {
+        super(Families.MONSTERS, PRIORITY);
+        this.player = player;
+        this.flowField = flowField;
+        this.collisionWorld = collisionWorld;
+        this.neighbours = neighbours;
+    }
+
+    // Pixels; cell size for the neighbour hash, so a separation query visits at most 2x2 cells
+    public static float getNeighbourCellSize() {
+        return 2 * PERSONAL_SPACE * PPM;
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        if (player == null) return;
+        Vector2 playerPosition = player.getPosition();
+        playerX = playerPosition.x;
+        playerY = playerPosition.y;
+        delta = deltaTime;
+        flowField.setTarget(playerX, playerY); // Rebuilds only when the player changed tile
+
+        ImmutableArray<Entity> monsters = getEntities();
+        int count = monsters.size();
+        if (SERIAL || count < PARALLEL_THRESHOLD) {
+            ThinkChunk chunk = getChunk(0);
+            chunk.prepare(0, count);
+            chunk.compute();
+            apply(1);
+            return;
+        }
+
+        // Fork all chunks but the first, think through the first here, then wait for the rest
+        int chunkCount = (count + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        for (int i = 0; i < chunkCount; i++) {
+            getChunk(i).prepare(i * CHUNK_SIZE, Math.min(count, (i + 1) * CHUNK_SIZE));
+        }
+        for (int i = 1; i < chunkCount; i++) {
+            chunks.get(i).fork();
+        }
+        chunks.get(0).compute();
+        for (int i = 1; i < chunkCount; i++) {
+            chunks.get(i).join();
+        }
+        apply(chunkCount);
+    }
+
+    // Serial single-entity path, e.g. for Engine users calling processEntity through update()
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        think(entity, getChunk(0));
+    }
+
+    // Chunks cover the monster array in order, so this applies attacks in monster order
+    private void apply(int chunkCount) {
+        for (int i = 0; i < chunkCount; i++) {
+            FloatArray playerDamage = chunks.get(i).playerDamage;
+            for (int j = 0; j < playerDamage.size; j++) {
+                player.takeDamage(playerDamage.get(j));
+            }
+            playerDamage.clear();
+        }
+    }
+
+    private ThinkChunk getChunk(int index) {
+        while (chunks.size <= index) {
+            chunks.add(new ThinkChunk());
+        }
+        return chunks.get(index);
+    }
+
+    /** A contiguous range of the monster array with its own scratch and outbox. */
+    @SuppressWarnings("serial") // Never serialized
+    private final class ThinkChunk extends RecursiveAction {
+        final Vector2 steering = new Vector2();
+        final IntArray neighbourEntries = new IntArray(MAX_NEIGHBOURS);
+        final FloatArray playerDamage = new FloatArray();
+        int from;
+        int to;
+
+        void prepare(int from, int to) {
+            reinitialize();
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            ImmutableArray<Entity> monsters = getEntities();
+            for (int i = from; i < to; i++) {
+                think(monsters.get(i), this);
+            }
+        }
+    }
+
+    // Think phase for one monster: writes only its own components and the chunk's outbox
+    private void think(Entity entity, ThinkChunk chunk) {
+        MonsterComponent monster = Mappers.MONSTER.get(entity);
+        if (!monster.isAlive()) return;
+
+        updateVelocity(entity, monster, chunk);
+
+        if (monster.attackTimer > 0) {
+            monster.attackTimer -= delta;
+        }
+        if (monster.pushRecoveryTimer > 0) {
+            monster.pushRecoveryTimer -= delta;
+        }
+    }
+
+    private void updateVelocity(Entity entity, MonsterComponent monster, ThinkChunk chunk) {
+        MonsterType type = monster.type;
+        TransformComponent transform = Mappers.TRANSFORM.get(entity);
+        VelocityComponent velocity = Mappers.VELOCITY.get(entity);
+        Vector2 steering = chunk.steering;
+
+        float toPlayerX = playerX - transform.x;
+        float toPlayerY = playerY - transform.y;
+        float distanceToPlayer = (float) Math.sqrt(toPlayerX * toPlayerX + toPlayerY * toPlayerY);
+        if (distanceToPlayer > type.detectionRange) {
+            monster.aggro = false;
+            velocity.setZero();
+            monster.changeState(MonsterState.IDLE);
+            return;
+        }
+
+        monster.aggro = true;
+        if (distanceToPlayer <= type.attackRange && monster.attackTimer <= 0) {
+            monster.flipped = toPlayerX < 0;
+            velocity.setZero();
+            monster.changeState(MonsterState.ATTACKING);
+            monster.attackTimer = type.attackCooldown;
+            chunk.playerDamage.add(type.attack); // Applied after the think phase
+        } else if (monster.state != MonsterState.ATTACKING) {
+            monster.changeState(MonsterState.RUNNING);
+
+            // Follow the shared flow field around walls; head straight in once in the player's cell
+            if (flowField == null || !flowField.getDirection(transform.x, transform.y, steering)) {
+                if (distanceToPlayer > 0) {
+                    steering.set(toPlayerX / distanceToPlayer, toPlayerY / distanceToPlayer);
+                } else {
+                    steering.setZero();
+                }
+            }
+            applySwarming(entity, transform, steering, chunk.neighbourEntries);
+            monster.flipped = steering.x < 0;
+            moveAlongWalls(transform, velocity, steering.x * type.chaseSpeed, steering.y * type.chaseSpeed);
+        }
+    }
+
+    /**
+     * Bends the unit direction away from monsters inside PERSONAL_SPACE (weighted by
+     * PUSH_FORCE and by how deep they are) and slightly towards the centre of the
+     * monsters within SWARM_RADIUS, keeping its length at most 1. Both lookups are capped at
+     * MAX_NEIGHBOURS, so a dense horde costs the same per monster as a sparse one.
+     */
+    private void applySwarming(Entity self, TransformComponent transform, Vector2 direction, IntArray neighbourEntries) {
+        if (neighbours == null) return;
+
+        float separationX = 0, separationY = 0;
+        float personalSpace = PERSONAL_SPACE * PPM;
+        neighbourEntries.clear();
+        neighbours.query(transform.x, transform.y, personalSpace, neighbourEntries, MAX_NEIGHBOURS);
+        for (int i = 0; i < neighbourEntries.size; i++) {
+            int entry = neighbourEntries.get(i);
+            Entity other = neighbours.get(entry);
+            if (other == self) continue;
+            float awayX = transform.x - neighbours.getX(entry);
+            float awayY = transform.y - neighbours.getY(entry);
+            float distance = (float) Math.sqrt(awayX * awayX + awayY * awayY);
+            if (distance == 0) {
+                // Exactly on top of each other: split the pair in opposite directions
+                float angle = splitAngle(Mappers.MONSTER.get(self).id, Mappers.MONSTER.get(other).id);
+                separationX += MathUtils.cos(angle);
+                separationY += MathUtils.sin(angle);
+                continue;
+            }
+            float strength = 1 - distance / personalSpace;
+            separationX += awayX / distance * strength;
+            separationY += awayY / distance * strength;
+        }
+
+        float centreX = 0, centreY = 0;
+        int count = 0;
+        float swarmRadius = SWARM_RADIUS * PPM;
+        neighbourEntries.clear();
+        neighbours.query(transform.x, transform.y, swarmRadius, neighbourEntries, MAX_NEIGHBOURS);
+        for (int i = 0; i < neighbourEntries.size; i++) {
+            int entry = neighbourEntries.get(i);
+            if (neighbours.get(entry) == self) continue;
+            centreX += neighbours.getX(entry);
+            centreY += neighbours.getY(entry);
+            count++;
+        }
+        if (count > 0) {
+            direction.add(
+                (centreX / count - transform.x) / swarmRadius * COHESION_WEIGHT,
+                (centreY / count - transform.y) / swarmRadius * COHESION_WEIGHT);
+        }
+
+        // Clamp rather than normalize, so a monster squeezed from all sides slows down instead of jittering
+        direction.add(separationX * PUSH_FORCE, separationY * PUSH_FORCE).limit(1);
+    }
+
+    /**
+     * Direction for a monster to leave another one at the same spot. It is derived from
+     * the spawn ids of the two monsters instead of a shared random generator, so it is
+     * the same on any thread and in every run with the same seed, and the two monsters
+     * of a pair get opposite directions.
+     */
+    private static float splitAngle(int selfId, int otherId) {
+        long low = Math.min(selfId, otherId);
+        long high = Math.max(selfId, otherId);
+        long hash = (low * 0x9E3779B97F4A7C15L) ^ (high * 0xC2B2AE3D27D4EB4FL);
+        float angle = (hash >>> 40) / (float) (1 << 24) * MathUtils.PI2;
+        return selfId == low ? angle : angle + MathUtils.PI;
+    }
+
+    // Sets velocity to the desired one, or to the axis of it that stays clear of walls
+    private void moveAlongWalls(TransformComponent transform, VelocityComponent velocity, float desiredX, float desiredY) {
+        float x = transform.x;
+        float y = transform.y;
+        if (collisionWorld == null || blockedAt(transform, x, y)) {
+            // No walls, or already overlapping one (e.g. spawned on it): let it walk free
+            velocity.set(desiredX, desiredY);
+        } else if (!blockedAt(transform, x + desiredX * delta, y + desiredY * delta)) {
+            velocity.set(desiredX, desiredY);
+        } else if (!blockedAt(transform, x + desiredX * delta, y)) {
+            velocity.set(desiredX, 0);
+        } else if (!blockedAt(transform, x, y + desiredY * delta)) {
+            velocity.set(0, desiredY);
+        } else {
+            velocity.setZero();
+        }
+    }
+
+    // Monster footprint centred on the pixel position
+    private boolean blockedAt(TransformComponent transform, float x, float y) {
+        return collisionWorld.overlapsPixels(x - transform.width / 2, y - transform.height / 2, transform.width, transform.height);
+    }
+}
@@ -0,0 +1,50 @@
+package io.github.HustSavior.ecs.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.systems.IteratingSystem;
+
+import io.github.HustSavior.ecs.Families;
+import io.github.HustSavior.ecs.Mappers;
+import io.github.HustSavior.ecs.components.MonsterComponent;
+import io.github.HustSavior.ecs.components.MonsterState;
+
+/**
+ * Advances monster animations and the state changes they drive: attack and hit
+ * animations fall back to idle when they end, and a dead monster is removed from
+ * the engine (and its components pooled) once its death animation has played.
+ */
+public class MonsterAnimationSystem extends IteratingSystem {
+    public static final int PRIORITY = 2;
+
+    public MonsterAnimationSystem() {
+        super(Families.MONSTERS, PRIORITY);
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        MonsterComponent monster = Mappers.MONSTER.get(entity);
+        monster.stateTime += deltaTime;
+
+        switch (monster.state) {
+            case DEATH:
+                if (monster.animations.death.isAnimationFinished(monster.stateTime)) {
+                    getEngine().removeEntity(entity);
+                }
+                return;
+            case ATTACKING:
+                if (monster.animations.attack.isAnimationFinished(monster.stateTime)) {
+                    monster.changeState(MonsterState.IDLE);
+                }
+                return;
+            case TAKE_HIT:
+                if (monster.animations.takeHit.isAnimationFinished(monster.stateTime)) {
+                    monster.changeState(MonsterState.IDLE);
+                } else if (!Mappers.VELOCITY.get(entity).isZero()) {
+                    monster.changeState(MonsterState.RUNNING); // A chasing monster shrugs the hit off
+                }
+                return;
+            default:
+                monster.changeState(Mappers.VELOCITY.get(entity).isZero() ? MonsterState.IDLE : MonsterState.RUNNING);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package io.github.HustSavior.ecs.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+import io.github.HustSavior.ecs.Families;
+import io.github.HustSavior.ecs.Mappers;
+import io.github.HustSavior.ecs.components.MonsterComponent;
+import io.github.HustSavior.ecs.components.MonsterState;
+import io.github.HustSavior.ecs.components.TransformComponent;
+
+/**
+ * Draws monsters between their last two tick positions. Not run by
+ * Engine.update(); Play calls {@link #render(SpriteBatch, float)} inside its
+ * batch once per frame.
+ */
+public class MonsterRenderSystem extends IteratingSystem {
+    private SpriteBatch batch;
+    private float alpha;
+
+    public MonsterRenderSystem() {
+        super(Families.MONSTERS);
+        setProcessing(false);
+    }
+
+    // alpha is the fraction of a tick left in the accumulator
+    public void render(SpriteBatch batch, float alpha) {
+        this.batch = batch;
+        this.alpha = alpha;
+        update(0);
+        this.batch = null;
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        MonsterComponent monster = Mappers.MONSTER.get(entity);
+        // Only loop if not the death animation
+        TextureRegion frame = monster.getCurrentAnimation().getKeyFrame(monster.stateTime, monster.state != MonsterState.DEATH);
+        if (frame == null) return;
+
+        // Packed frames are trimmed: centre the untrimmed frame, draw the packed part at its offset
+        float offsetX = 0;
+        float offsetY = 0;
+        float width = frame.getRegionWidth();
+        float height = frame.getRegionHeight();
+        float packedWidth = width;
+        if (frame instanceof TextureAtlas.AtlasRegion) {
+            TextureAtlas.AtlasRegion region = (TextureAtlas.AtlasRegion) frame;
+            offsetX = region.offsetX;
+            offsetY = region.offsetY;
+            width = region.originalWidth;
+            height = region.originalHeight;
+        }
+        TransformComponent transform = Mappers.TRANSFORM.get(entity);
+        float x = transform.getRenderX(alpha) - width / 2f;
+        float y = transform.getRenderY(alpha) - height / 2f;
+
+        // Frames are shared between monsters, so mirror with a negative width instead of flip()
+        if (monster.flipped) {
+            batch.draw(frame, x + width - offsetX, y + offsetY, -packedWidth, frame.getRegionHeight());
+        } else {
+            batch.draw(frame, x + offsetX, y + offsetY);
+        }
+    }
+}
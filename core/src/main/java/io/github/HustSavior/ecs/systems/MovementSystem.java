@@ -0,0 +1,27 @@
+package io.github.HustSavior.ecs.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.systems.IteratingSystem;
+
+import io.github.HustSavior.ecs.Families;
+import io.github.HustSavior.ecs.Mappers;
+import io.github.HustSavior.ecs.components.TransformComponent;
+import io.github.HustSavior.ecs.components.VelocityComponent;
+
+// Remembers where each entity started the tick, then moves it by its velocity
+public class MovementSystem extends IteratingSystem {
+    public static final int PRIORITY = 1;
+
+    public MovementSystem() {
+        super(Families.MOVING, PRIORITY);
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        TransformComponent transform = Mappers.TRANSFORM.get(entity);
+        VelocityComponent velocity = Mappers.VELOCITY.get(entity);
+        transform.savePrevious();
+        transform.x += velocity.x * deltaTime;
+        transform.y += velocity.y * deltaTime;
+    }
+}
@@ -0,0 +1,29 @@
+package io.github.HustSavior.ecs.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+
+import io.github.HustSavior.ecs.Families;
+import io.github.HustSavior.ecs.Mappers;
+
+// Draws the visible, uncollected pickups; called by Play like MonsterRenderSystem
+public class PickupRenderSystem extends IteratingSystem {
+    private SpriteBatch batch;
+
+    public PickupRenderSystem() {
+        super(Families.PICKUPS);
+        setProcessing(false);
+    }
+
+    public void render(SpriteBatch batch) {
+        this.batch = batch;
+        update(0);
+        this.batch = null;
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        Mappers.PICKUP.get(entity).item.draw(batch); // Skips hidden and collected items
+    }
+}
@@ -0,0 +1,88 @@
+package io.github.HustSavior.ecs.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.MapObject;
+import com.badlogic.gdx.maps.objects.RectangleMapObject;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+
+import io.github.HustSavior.ecs.Families;
+import io.github.HustSavior.ecs.Mappers;
+import io.github.HustSavior.ecs.components.PickupComponent;
+import io.github.HustSavior.entities.Player;
+import io.github.HustSavior.items.Item;
+
+/**
+ * Shows or hides pickups and reports the one the player walks onto.
+ *
+ * An item inside a building or tree ("_bounds" rectangle) is only visible while
+ * the player stands in the same rectangle. Items never move, so each one looks
+ * up its rectangle once and afterwards costs a single contains() per tick.
+ */
+public class PickupSystem extends IteratingSystem {
+    public static final int PRIORITY = 4;
+
+    private static final String BOUNDS_SUFFIX = "_bounds";
+
+    public interface PickupListener {
+        // Called at most once per tick, for a visible item the player overlaps
+        void onPickup(Entity entity, Item item);
+    }
+
+    private final Player player;
+    private final Array<Rectangle> regions = new Array<>();
+    private final PickupListener listener;
+    private boolean pickedUpThisTick;
+
+    public PickupSystem(Player player, TiledMap map, PickupListener listener) {
+        super(Families.PICKUPS, PRIORITY);
+        this.player = player;
+        this.listener = listener;
+
+        // Layer order decides which rectangle wins where two of them overlap
+        for (MapLayer layer : map.getLayers()) {
+            if (layer.getName() == null || !layer.getName().endsWith(BOUNDS_SUFFIX)) continue;
+            for (MapObject object : layer.getObjects()) {
+                if (object instanceof RectangleMapObject) {
+                    regions.add(((RectangleMapObject) object).getRectangle());
+                }
+            }
+        }
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        pickedUpThisTick = false;
+        super.update(deltaTime);
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        PickupComponent pickup = Mappers.PICKUP.get(entity);
+        Item item = pickup.item;
+        if (item.isCollected()) return;
+
+        if (pickup.region == PickupComponent.REGION_UNRESOLVED) {
+            pickup.region = findRegion(item.getX(), item.getY());
+        }
+        Vector2 playerPosition = player.getPosition();
+        item.setVisible(pickup.region == PickupComponent.REGION_NONE
+            || regions.get(pickup.region).contains(playerPosition.x, playerPosition.y));
+
+        if (!pickedUpThisTick && item.isVisible() && player.getBounds().overlaps(item.getBounds())) {
+            pickedUpThisTick = true;
+            listener.onPickup(entity, item);
+        }
+    }
+
+    private int findRegion(float x, float y) {
+        for (int i = 0; i < regions.size; i++) {
+            if (regions.get(i).contains(x, y)) return i;
+        }
+        return PickupComponent.REGION_NONE;
+    }
+}
@@ -0,0 +1,174 @@
+package io.github.HustSavior.entities;
+
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectMap;
+
+import io.github.HustSavior.assets.GameAssets;
+import io.github.HustSavior.ecs.MonsterType;
+import io.github.HustSavior.ecs.MonsterTypes;
+import io.github.HustSavior.utils.log.GameLog;
+
+/**
+ * Shared animation cache for all monster types.
+ *
+ * The first lookup, or {@link #prepare()} while the menu is up, builds the
+ * animations of every {@link MonsterType} from {@link GameAssets#MONSTER_ATLAS},
+ * whose frames are trimmed at build time, see MonsterRenderSystem. Without that
+ * atlas it cuts the sprite sheets into frames and packs them at runtime. After
+ * that, spawning a monster only hands out references to the cached
+ * {@link MonsterAnimations}, and the whole horde is drawn from a single
+ * texture, so the SpriteBatch does not flush per monster.
+ */
+public class MonsterAnimationRegistry implements Disposable {
+    private static final String SPRITE_ROOT = "sprites/monster/";
+    private static final int PAGE_SIZE = 2048;
+    private static final int PADDING = 2;
+
+    private static MonsterAnimationRegistry instance;
+
+    private final ObjectMap<String, MonsterAnimations> animations = new ObjectMap<>();
+    private TextureAtlas atlas;
+    // A runtime packed atlas is ours to dispose, a loaded one belongs to GameAssets
+    private boolean packedAtRuntime;
+
+    private MonsterAnimationRegistry() {
+    }
+
+    public static MonsterAnimationRegistry getInstance() {
+        if (instance == null) {
+            instance = new MonsterAnimationRegistry();
+        }
+        return instance;
+    }
+
+    /** Packs the atlas now, if no lookup has yet, so that the first spawn does not. */
+    public void prepare() {
+        if (atlas == null) {
+            build();
+        }
+    }
+
+    public MonsterAnimations get(MonsterType type) {
+        return get(type.name);
+    }
+
+    public MonsterAnimations get(String type) {
+        if (atlas == null) {
+            build();
+        }
+        MonsterAnimations set = animations.get(type);
+        if (set == null) {
+            throw new IllegalArgumentException("Unknown monster type: " + type);
+        }
+        return set;
+    }
+
+    private void build() {
+        long start = System.currentTimeMillis();
+        Array<MonsterType> types = MonsterTypes.getInstance().getAll();
+        atlas = GameAssets.getInstance().findAtlas(GameAssets.MONSTER_ATLAS);
+        packedAtRuntime = atlas == null;
+        if (packedAtRuntime) {
+            pack(types);
+        }
+
+        for (MonsterType type : types) {
+            MonsterType.Sheets sheets = type.sheets;
+            Animation<TextureRegion> idle = createAnimation(type.name, sheets.idle);
+            Animation<TextureRegion> run = sheets.run != null ? createAnimation(type.name, sheets.run) : idle;
+            animations.put(type.name, new MonsterAnimations(
+                idle,
+                run,
+                createAnimation(type.name, sheets.attack),
+                createAnimation(type.name, sheets.takeHit),
+                createAnimation(type.name, sheets.death)
+            ));
+        }
+
+        GameLog.info("MonsterAnimationRegistry", (packedAtRuntime ? "Packed " : "Loaded ") + types.size
+            + " monster types into " + atlas.getTextures().size + " atlas page(s) in "
+            + (System.currentTimeMillis() - start) + "ms");
+    }
+
+    private void pack(Array<MonsterType> types) {
+        PixmapPacker packer = new PixmapPacker(PAGE_SIZE, PAGE_SIZE, Pixmap.Format.RGBA8888, PADDING, false);
+
+        for (MonsterType type : types) {
+            MonsterType.Sheets sheets = type.sheets;
+            packSheet(packer, type.name, sheets.idle);
+            if (sheets.run != null) {
+                packSheet(packer, type.name, sheets.run);
+            }
+            packSheet(packer, type.name, sheets.attack);
+            packSheet(packer, type.name, sheets.takeHit);
+            packSheet(packer, type.name, sheets.death);
+        }
+
+        atlas = packer.generateTextureAtlas(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest, false);
+        packer.dispose();
+        // The sheets are only needed for packing
+        GameAssets.getInstance().unloadAll(Pixmap.class);
+    }
+
+    private void packSheet(PixmapPacker packer, String type, MonsterType.Sheet sheet) {
+        Pixmap sheetPixmap = GameAssets.getInstance().getPixmap(sheetPath(type, sheet));
+        int frameWidth = sheetPixmap.getWidth() / sheet.frames;
+        int frameHeight = sheetPixmap.getHeight();
+
+        for (int i = 0; i < sheet.frames; i++) {
+            Pixmap frame = new Pixmap(frameWidth, frameHeight, Pixmap.Format.RGBA8888);
+            frame.setBlending(Pixmap.Blending.None);
+            frame.drawPixmap(sheetPixmap, 0, 0, i * frameWidth, 0, frameWidth, frameHeight);
+            packer.pack(regionName(type, sheet) + "#" + i, frame);
+            frame.dispose();
+        }
+    }
+
+    private Animation<TextureRegion> createAnimation(String type, MonsterType.Sheet sheet) {
+        String name = regionName(type, sheet);
+        TextureRegion[] frames = new TextureRegion[sheet.frames];
+        if (packedAtRuntime) {
+            for (int i = 0; i < sheet.frames; i++) {
+                frames[i] = atlas.findRegion(name + "#" + i);
+            }
+        } else {
+            // Indexed by the packer, in frame order
+            Array<TextureAtlas.AtlasRegion> regions = atlas.findRegions(name);
+            if (regions.size != sheet.frames) {
+                throw new GdxRuntimeException(GameAssets.MONSTER_ATLAS + " has " + regions.size + " frames of " + name
+                    + " instead of " + sheet.frames + ", pack the atlases again");
+            }
+            for (int i = 0; i < sheet.frames; i++) {
+                frames[i] = regions.get(i);
+            }
+        }
+        return new Animation<>(sheet.frameDuration, frames);
+    }
+
+    /** Path of a sheet of a monster type, relative to the assets. */
+    public static String sheetPath(String type, MonsterType.Sheet sheet) {
+        return SPRITE_ROOT + type + "/" + sheet.file;
+    }
+
+    /** Name the frames of a sheet share in the monster atlas, e.g. "Goblin/Idle". */
+    public static String regionName(String type, MonsterType.Sheet sheet) {
+        return GameAssets.regionName(type + "/" + sheet.file);
+    }
+
+    @Override
+    public void dispose() {
+        if (atlas != null && packedAtRuntime) {
+            atlas.dispose();
+        }
+        atlas = null;
+        animations.clear();
+    }
+}
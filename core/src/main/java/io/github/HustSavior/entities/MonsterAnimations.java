@@ -0,0 +1,27 @@
+package io.github.HustSavior.entities;
+
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+/**
+ * The animation set of one monster type. Instances are owned by
+ * {@link MonsterAnimationRegistry} and shared by every monster of that type,
+ * so the frames must never be flipped or otherwise mutated by a monster.
+ */
+public class MonsterAnimations {
+    public final Animation<TextureRegion> idle;
+    public final Animation<TextureRegion> run;
+    public final Animation<TextureRegion> attack;
+    public final Animation<TextureRegion> takeHit;
+    public final Animation<TextureRegion> death;
+
+    public MonsterAnimations(Animation<TextureRegion> idle, Animation<TextureRegion> run,
+                             Animation<TextureRegion> attack, Animation<TextureRegion> takeHit,
+                             Animation<TextureRegion> death) {
+        this.idle = idle;
+        this.run = run;
+        this.attack = attack;
+        this.takeHit = takeHit;
+        this.death = death;
+    }
+}
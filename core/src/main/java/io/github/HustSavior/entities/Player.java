@@ -4,7 +4,6 @@ import com.badlogic.gdx.Game;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
@@ -15,11 +14,14 @@ import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.World;
 
 import io.github.HustSavior.Play;
+import io.github.HustSavior.assets.GameAssets;
 import io.github.HustSavior.collision.TileCollision;
+import io.github.HustSavior.ecs.MonsterRegistry;
 import io.github.HustSavior.screen.DeathScreen;
 import io.github.HustSavior.skills.SkillManager;
 import io.github.HustSavior.sound.MusicPlayer;
 import io.github.HustSavior.utils.GameConfig;
+import io.github.HustSavior.utils.log.GameLog;
 
 public class Player extends Sprite {
     private static final float PPM = GameConfig.PPM;
@@ -41,24 +43,24 @@ public class Player extends Sprite {
     private static int level = 1;
 
     public final Animation<TextureRegion> walkLeft = new Animation<>(ANIMATION_SPEED,
-        new TextureRegion(new Texture("sprites/WalkLeft1.png")),
-        new TextureRegion(new Texture("sprites/WalkLeft2.png"))
+        GameAssets.getInstance().getRegion("sprites/WalkLeft1.png"),
+        GameAssets.getInstance().getRegion("sprites/WalkLeft2.png")
     );
     public final Animation<TextureRegion> walkRight = new Animation<>(ANIMATION_SPEED,
-        new TextureRegion(new Texture("sprites/WalkRight1.png")),
-        new TextureRegion(new Texture("sprites/WalkRight2.png"))
+        GameAssets.getInstance().getRegion("sprites/WalkRight1.png"),
+        GameAssets.getInstance().getRegion("sprites/WalkRight2.png")
     );
 
 
     private static boolean facingLeft;
 
     // HP and XP
-    private Texture healthBarTexture;
+    private TextureRegion healthBarTexture;
     private static final float HEALTH_BAR_WIDTH = 30f;
     private static final float HEALTH_BAR_HEIGHT = 3f;
     private static final float HEALTH_BAR_OFFSET_X = 6.5f;
     private static final float HEALTH_BAR_OFFSET_Y = 37f;
-    private Texture xpBarTexture;
+    private TextureRegion xpBarTexture;
     private static final float XP_BAR_WIDTH = 330f;
     private static final float XP_BAR_HEIGHT = 10f;
     private static final float XP_BAR_OFFSET_Y = 220f;
@@ -98,6 +100,11 @@ public class Player extends Sprite {
     // Replace Box2D bodies with simple position and hitbox
     private Vector2 position;
     private Vector2 velocity = new Vector2();
+    // Position at the start of the current simulation tick and the blended one drawn this frame (world units)
+    private final Vector2 previousPosition = new Vector2();
+    private final Vector2 renderPosition = new Vector2();
+    // Returned by getPosition(), refreshed on every call
+    private final Vector2 pixelPosition = new Vector2();
     private float width;
     private float height;
 
@@ -137,6 +144,8 @@ public class Player extends Sprite {
         // Initialize position in world coordinates
         this.position = new Vector2(x / PPM, y / PPM);  // Convert to world units
         this.velocity = new Vector2(0, 0);  // Ensure velocity is zero initially
+        previousPosition.set(position);
+        renderPosition.set(position);
 
         // Set up collision bounds
         this.bounds = new Rectangle(
@@ -159,8 +168,8 @@ public class Player extends Sprite {
         this.maxHealth = 10000;
         this.xp = 0;
         this.maxXp = 100;
-        healthBarTexture = new Texture("HP & XP/health_bar.png");
-        xpBarTexture = new Texture("HP & XP/xp_bar.png");
+        healthBarTexture = GameAssets.getInstance().getRegion("HP & XP/health_bar.png");
+        xpBarTexture = GameAssets.getInstance().getRegion("HP & XP/xp_bar.png");
 
         // Shield
 //        shieldActive = false;
@@ -210,8 +219,8 @@ public class Player extends Sprite {
 
     private Animation<TextureRegion> createAnimation(String basePath) {
         TextureRegion[] frames = new TextureRegion[2];
-        frames[0] = new TextureRegion(new Texture(basePath + "1.png"));
-        frames[1] = new TextureRegion(new Texture(basePath + "2.png"));
+        frames[0] = GameAssets.getInstance().getRegion(basePath + "1.png");
+        frames[1] = GameAssets.getInstance().getRegion(basePath + "2.png");
         return new Animation<>(ANIMATION_SPEED, frames);
     }
 
@@ -219,12 +228,14 @@ public class Player extends Sprite {
         position = new Vector2(x, y);
         velocity = new Vector2(0, 0);
         bounds = new Rectangle(x, y, getWidth(), getHeight());
+        previousPosition.set(position);
+        renderPosition.set(position);
     }
 
 
     public void draw(SpriteBatch batch) {
-        float x = position.x * PPM - getWidth() / 2;
-        float y = position.y * PPM - getHeight() / 2;
+        float x = renderPosition.x * PPM - getWidth() / 2;
+        float y = renderPosition.y * PPM - getHeight() / 2;
         setPosition(x, y + 12);  // Offset sprite up from feet position
         super.draw(batch);
         skillManager.drawSkills(batch);
@@ -313,8 +324,28 @@ public class Player extends Sprite {
         return MOVEMENT_SPEED;
     }
 
+    // Position in pixels. The vector is shared and overwritten by the next call, so copy it to keep it.
     public Vector2 getPosition() {
-        return new Vector2(position.x * PPM, position.y * PPM);
+        return pixelPosition.set(position.x * PPM, position.y * PPM);
+    }
+
+    // Called by GameSimulation before each fixed simulation tick
+    public void savePreviousPosition() {
+        previousPosition.set(position);
+    }
+
+    // Blends the last two tick positions for drawing; alpha is the fraction of a tick left in the accumulator
+    public void interpolate(float alpha) {
+        renderPosition.set(previousPosition).lerp(position, alpha);
+    }
+
+    // Interpolated position in pixels; only meaningful after interpolate()
+    public float getRenderX() {
+        return renderPosition.x * PPM;
+    }
+
+    public float getRenderY() {
+        return renderPosition.y * PPM;
     }
 
 
@@ -332,7 +363,9 @@ public class Player extends Sprite {
                 fadeTimer += Gdx.graphics.getDeltaTime();
                 if (fadeTimer >= FADE_DURATION) {
                     // Only transition to death screen after fade completes
-                    game.setScreen(new DeathScreen(game, game.getScreen()));
+                    if (game != null) {
+                        game.setScreen(new DeathScreen(game, game.getScreen()));
+                    }
                     return;
                 }
             }
@@ -386,7 +419,7 @@ public class Player extends Sprite {
             if (shieldTimer >= SHIELD_DURATION) {
                 shieldActive = false;
                 shieldTimer = 0;
-                System.out.println("Shield deactivated");
+                GameLog.info("Player", "Shield deactivated");
             }
         }
     }
@@ -451,8 +484,11 @@ public class Player extends Sprite {
             health = Math.max(0, health - damage);
             if (health <= 0) {
                 isDead = true;
-                ((Play)game.getScreen()).setGameOver();  // Freeze the game
-                game.setScreen(new DeathScreen(game, game.getScreen()));
+                // Without a Play screen (headless) the simulation just sees a dead player
+                if (game != null && game.getScreen() instanceof Play) {
+                    ((Play)game.getScreen()).setGameOver();  // Freeze the game
+                    game.setScreen(new DeathScreen(game, game.getScreen()));
+                }
             }
         }
     }
@@ -486,9 +522,9 @@ public class Player extends Sprite {
 
     private Animation<TextureRegion> createDeathAnimation() {
         TextureRegion[] frames = new TextureRegion[3];
-        frames[0] = new TextureRegion(new Texture("sprites/Defeated1.png"));
-        frames[1] = new TextureRegion(new Texture("sprites/Defeated2.png"));
-        frames[2] = new TextureRegion(new Texture("sprites/Defeated3.png"));
+        frames[0] = GameAssets.getInstance().getRegion("sprites/Defeated1.png");
+        frames[1] = GameAssets.getInstance().getRegion("sprites/Defeated2.png");
+        frames[2] = GameAssets.getInstance().getRegion("sprites/Defeated3.png");
         return new Animation<>(0.2f, frames); // 0.2s per frame
     }
 
@@ -535,10 +571,10 @@ public class Player extends Sprite {
         TextureRegion[] rightFrames = new TextureRegion[FRAME_COUNT];
 
         // Load the individual frame textures
-        leftFrames[0] = new TextureRegion(new Texture("sprites/WalkLeft1.png"));
-        leftFrames[1] = new TextureRegion(new Texture("sprites/WalkLeft2.png"));
-        rightFrames[0] = new TextureRegion(new Texture("sprites/WalkRight1.png"));
-        rightFrames[1] = new TextureRegion(new Texture("sprites/WalkRight2.png"));
+        leftFrames[0] = GameAssets.getInstance().getRegion("sprites/WalkLeft1.png");
+        leftFrames[1] = GameAssets.getInstance().getRegion("sprites/WalkLeft2.png");
+        rightFrames[0] = GameAssets.getInstance().getRegion("sprites/WalkRight1.png");
+        rightFrames[1] = GameAssets.getInstance().getRegion("sprites/WalkRight2.png");
 
         // Create animations
         walkLeftAnimation = new Animation<>(ANIMATION_FRAME_DURATION, leftFrames);
@@ -567,19 +603,9 @@ public class Player extends Sprite {
     }
 
 
+    // The textures belong to GameAssets; the skills hold Box2D bodies of the simulation's world
     public void dispose() {
-        // Dispose of animation textures
-        if (walkLeftAnimation != null) {
-            for (TextureRegion frame : walkLeftAnimation.getKeyFrames()) {
-                frame.getTexture().dispose();
-            }
-        }
-        if (walkRightAnimation != null) {
-            for (TextureRegion frame : walkRightAnimation.getKeyFrames()) {
-                frame.getTexture().dispose();
-            }
-        }
-        // ... dispose other resources ...
+        skillManager.dispose();
     }
 
     public void resetMovement() {
@@ -612,7 +638,12 @@ public class Player extends Sprite {
     }
 
     public Object getScreen() {
-        return game.getScreen();
+        return game != null ? game.getScreen() : null;
+    }
+
+    // Monsters the skills can hit; the registry follows spawns and despawns, so it only has to be set once
+    public void setMonsters(MonsterRegistry monsters) {
+        skillManager.setMonsters(monsters);
     }
 
     public void increaseAttack(float amount) {
@@ -630,7 +661,7 @@ public class Player extends Sprite {
     public void activateShield() {
         shieldActive = true;
         shieldTimer = 0;
-        System.out.println("Shield activated for " + SHIELD_DURATION + " seconds");
+        GameLog.info("Player", "Shield activated for " + SHIELD_DURATION + " seconds");
     }
 
     public boolean isShieldActive() {
@@ -643,6 +674,6 @@ public class Player extends Sprite {
 
     public static void levelUp() {
         level++;
-        System.out.println("Player leveled up to level " + level);
+        GameLog.info("Player", "Leveled up to level " + level);
     }
 }
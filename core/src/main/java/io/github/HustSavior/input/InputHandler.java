@@ -14,6 +14,8 @@ public class InputHandler extends InputAdapter {
     private float stateTime;
     private boolean dialogActive = false;
     private BulletManager bulletManager;
+    // Reused every tick; Player.setVelocity copies it
+    private final Vector2 velocity = new Vector2();
 
     public InputHandler(Player player, BulletManager bulletManager) {
         this.player = player;
@@ -79,16 +81,15 @@ public class InputHandler extends InputAdapter {
 
     public void update(float delta) {
         if (dialogActive) {
-            player.setVelocity(new Vector2(0, 0));
+            player.setVelocity(velocity.setZero());
             return;
         }
 
-        Vector2 velocity = calculateVelocity();
-        player.setVelocity(velocity);
+        player.setVelocity(calculateVelocity());
     }
 
     private Vector2 calculateVelocity() {
-        Vector2 velocity = new Vector2();
+        velocity.setZero();
         if (left)
             velocity.x = -player.getSpeed();
         if (right)
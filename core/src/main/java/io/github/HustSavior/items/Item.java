@@ -48,9 +48,7 @@ public abstract class Item implements Disposable {
 
     @Override
     public void dispose() {
-        if (sprite != null && sprite.getTexture() != null) {
-            sprite.getTexture().dispose();
-        }
+        // The sprite's texture belongs to GameAssets and is shared by every item of the kind
     }
 
     public boolean isCollected() {
@@ -10,29 +10,41 @@ import com.badlogic.gdx.maps.tiled.TiledMap;
 import com.badlogic.gdx.maps.tiled.TmxMapLoader;
 import com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer;
 import io.github.HustSavior.collision.CollisionBodyFactory;
+import io.github.HustSavior.collision.CollisionGrid;
+import io.github.HustSavior.collision.CollisionWorld;
 
 public class GameMap {
     private final TiledMap map;
-    private final OrthogonalTiledMapRenderer renderer;
+    // Created on first use, a headless simulation never draws
+    private OrthogonalTiledMapRenderer renderer;
+    private TileLayerCache layerCache;
     private final CollisionBodyFactory collisionBodyFactory;
 
     public GameMap(String mapPath, CollisionBodyFactory collisionBodyFactory) {
         this.collisionBodyFactory = collisionBodyFactory;
         
         FileHandle mapFile = Gdx.files.internal(mapPath);
-        if (!mapFile.exists()) {
+        FileHandle levelFile = Gdx.files.internal(LevelFile.levelPath(mapPath));
+        if (!mapFile.exists() && !levelFile.exists()) {
             Gdx.app.error("GameMap", "Map file not found: " + mapFile.path());
             throw new RuntimeException("Map file not found!");
         }
-        
-        try {
-            map = new TmxMapLoader().load(mapPath);
-        } catch (Exception e) {
-            Gdx.app.error("GameMap", "Failed to load map: " + e.getMessage(), e);
-            throw e;
+
+        LevelData level = LevelFile.read(levelFile, mapFile);
+        if (level != null) {
+            map = LevelFile.toMap(level);
+            CollisionWorld.install(new CollisionWorld(map, new CollisionGrid(level.collision)));
+        } else {
+            try {
+                map = new TmxMapLoader().load(mapPath);
+            } catch (Exception e) {
+                Gdx.app.error("GameMap", "Failed to load map: " + e.getMessage(), e);
+                throw e;
+            }
+            // Most tile layers are a few hundred tiles on the full grid
+            SparseTileLayer.compact(map);
         }
-        
-        renderer = new OrthogonalTiledMapRenderer(map);
+
         createCollisionBodies();
     }
 
@@ -56,9 +68,19 @@ public class GameMap {
     }
 
     public OrthogonalTiledMapRenderer getRenderer() {
+        if (renderer == null) {
+            renderer = new OrthogonalTiledMapRenderer(map);
+        }
         return renderer;
     }
 
+    public TileLayerCache getLayerCache() {
+        if (layerCache == null) {
+            layerCache = new TileLayerCache(map, getRenderer());
+        }
+        return layerCache;
+    }
+
     public MapLayer getLayer(String layerName) {
         return map.getLayers().get(layerName);
     }
@@ -67,6 +89,9 @@ public class GameMap {
         if (map != null) {
             map.dispose();
         }
+        if (layerCache != null) {
+            layerCache.dispose();
+        }
         if (renderer != null) {
             renderer.dispose();
         }
@@ -0,0 +1,99 @@
+package io.github.HustSavior.map;
+
+import com.badlogic.gdx.graphics.Pixmap;
+
+import io.github.HustSavior.collision.CollisionGrid;
+
+/**
+ * Contents of a compiled level file, see {@link LevelFile}. Plain public fields
+ * so Fury can write and read them without reflection tricks; anything added
+ * here needs {@link #VERSION} bumped and the class registered in LevelFile.
+ */
+public class LevelData {
+    public static final int VERSION = 1;
+
+    // Bits of a packed cell or tile object around the tile id
+    public static final int FLIP_HORIZONTALLY = 0x80000000;
+    public static final int FLIP_VERTICALLY = 0x40000000;
+    public static final int ROTATION_SHIFT = 28; // Two bits of quarter turns
+    public static final int TILE_ID_MASK = 0x0FFFFFFF;
+
+    public int version;
+    // CRC32 of the TMX the level was compiled from, to spot a stale file
+    public long sourceCrc;
+    public Properties properties;
+
+    // Internal paths of the tileset images the tiles cut their regions from
+    public String[] textures;
+    // Every tile a layer or tile object uses, and no others
+    public Tile[] tiles;
+    // In map order, tile and object layers alike
+    public Layer[] layers;
+    public CollisionGrid.Index collision;
+
+    // Tileset images decoded ahead by a prefetch, parallel to textures; never written
+    public transient Pixmap[] pixmaps;
+
+    // MapProperties as parallel arrays; values are String, Boolean, Integer, Long, Float or Double
+    public static class Properties {
+        public String[] keys;
+        public Object[] values;
+    }
+
+    public static class Tile {
+        public int id; // Global tile id, as in the TMX
+        public int texture; // Index into textures
+        public int regionX;
+        public int regionY;
+        public int regionWidth;
+        public int regionHeight;
+        public float offsetX;
+        public float offsetY;
+    }
+
+    public static class Layer {
+        public String name;
+        public boolean visible;
+        public float opacity;
+        public float offsetX;
+        public float offsetY;
+        public float parallaxX;
+        public float parallaxY;
+        public Properties properties;
+
+        // Tile layers only; cells are packed as in SparseTileLayer
+        public boolean tileLayer;
+        public int width;
+        public int height;
+        public int tileWidth;
+        public int tileHeight;
+        public int[] positions; // x | y << 16
+        public int[] cells; // Tile id | FLIP_HORIZONTALLY | FLIP_VERTICALLY | rotation << ROTATION_SHIFT
+
+        public Shape[] objects;
+    }
+
+    public static class Shape {
+        public static final int RECTANGLE = 0;
+        public static final int POLYGON = 1;
+        public static final int POLYLINE = 2;
+        public static final int ELLIPSE = 3;
+        public static final int TILE = 4;
+
+        public int kind;
+        public String name;
+        public boolean visible;
+        // Position and size for rectangles and ellipses, position for the rest
+        public float x;
+        public float y;
+        public float width;
+        public float height;
+        public float[] vertices; // Polygons and polylines, relative to (x, y)
+        // Tile objects only
+        public int tile; // Tile id | FLIP_HORIZONTALLY | FLIP_VERTICALLY
+        public float scaleX;
+        public float scaleY;
+        public float rotation;
+        public Properties properties;
+    }
+}
@@ -0,0 +1,472 @@
+package io.github.HustSavior.map;
+
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.zip.CRC32;
+
+import org.apache.fury.Fury;
+import org.apache.fury.config.Language;
+import org.apache.fury.memory.MemoryBuffer;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.TextureData;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.FileTextureData;
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.MapObject;
+import com.badlogic.gdx.maps.MapProperties;
+import com.badlogic.gdx.maps.objects.EllipseMapObject;
+import com.badlogic.gdx.maps.objects.PolygonMapObject;
+import com.badlogic.gdx.maps.objects.PolylineMapObject;
+import com.badlogic.gdx.maps.objects.RectangleMapObject;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTile;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.TiledMapTileSet;
+import com.badlogic.gdx.maps.tiled.objects.TiledMapTileMapObject;
+import com.badlogic.gdx.maps.tiled.tiles.StaticTiledMapTile;
+import com.badlogic.gdx.math.Ellipse;
+import com.badlogic.gdx.math.Polygon;
+import com.badlogic.gdx.math.Polyline;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.TimeUtils;
+
+import io.github.HustSavior.collision.CollisionGrid;
+
+/**
+ * Binary level files: a TMX map compiled ahead of time into {@link LevelData}
+ * and written with Fury. Loading one skips the XML and CSV parsing, the tileset
+ * tiles nobody draws and the collision grid build; tile layers come back as
+ * {@link SparseTileLayer}s and object layers as the same map objects
+ * TmxMapLoader would make, so code reading the TiledMap does not change.
+ *
+ * The file records a CRC of its TMX. A file that is stale, from an older format
+ * or unreadable is ignored and the caller falls back to the TMX.
+ */
+public final class LevelFile {
+    public static final String EXTENSION = ".level";
+
+    private static final String TAG = "LevelFile";
+
+    private static FutureTask<LevelData> prefetched;
+    private static String prefetchedPath;
+
+    private LevelFile() {
+    }
+
+    // map/map.tmx -> map/map.level
+    public static String levelPath(String mapPath) {
+        int dot = mapPath.lastIndexOf('.');
+        return (dot > mapPath.lastIndexOf('/') ? mapPath.substring(0, dot) : mapPath) + EXTENSION;
+    }
+
+    public static long crc(FileHandle file) {
+        CRC32 crc = new CRC32();
+        crc.update(file.readBytes());
+        return crc.getValue();
+    }
+
+    private static Fury createFury() {
+        Fury fury = Fury.builder()
+            .withLanguage(Language.JAVA)
+            .requireClassRegistration(true)
+            .withRefTracking(false)
+            // Fails on a LevelData whose fields changed instead of reading garbage
+            .withClassVersionCheck(true)
+            // A level is read once per start, generated serializers would cost more than they save
+            .withCodegen(false)
+            .build();
+        fury.register(LevelData.class);
+        fury.register(LevelData.Properties.class);
+        fury.register(LevelData.Tile.class);
+        fury.register(LevelData.Tile[].class);
+        fury.register(LevelData.Layer.class);
+        fury.register(LevelData.Layer[].class);
+        fury.register(LevelData.Shape.class);
+        fury.register(LevelData.Shape[].class);
+        fury.register(CollisionGrid.Index.class);
+        return fury;
+    }
+
+    /**
+     * Compiles a map loaded by TmxMapLoader. Its textures must come from files,
+     * which is all TmxMapLoader makes.
+     *
+     * @param sourceCrc {@link #crc} of the TMX file
+     */
+    public static byte[] compile(TiledMap map, long sourceCrc) {
+        LevelData level = new LevelData();
+        level.version = LevelData.VERSION;
+        level.sourceCrc = sourceCrc;
+        level.properties = properties(map.getProperties());
+
+        Array<String> textures = new Array<>();
+        ObjectIntMap<Texture> textureIndices = new ObjectIntMap<>();
+        IntMap<LevelData.Tile> tiles = new IntMap<>();
+
+        level.layers = new LevelData.Layer[map.getLayers().getCount()];
+        for (int i = 0; i < level.layers.length; i++) {
+            MapLayer layer = map.getLayers().get(i);
+            if (layer.getParent() != null
+                || (!layer.getClass().equals(MapLayer.class) && !(layer instanceof TiledMapTileLayer))) {
+                throw new GdxRuntimeException("Layer " + layer.getName() + ": only top level tile and object layers compile");
+            }
+            LevelData.Layer data = new LevelData.Layer();
+            data.name = layer.getName();
+            data.visible = layer.isVisible();
+            data.opacity = layer.getOpacity();
+            data.offsetX = layer.getOffsetX();
+            data.offsetY = layer.getOffsetY();
+            data.parallaxX = layer.getParallaxX();
+            data.parallaxY = layer.getParallaxY();
+            data.properties = properties(layer.getProperties());
+
+            if (layer instanceof TiledMapTileLayer) {
+                SparseTileLayer sparse = layer instanceof SparseTileLayer
+                    ? (SparseTileLayer) layer : SparseTileLayer.of((TiledMapTileLayer) layer);
+                data.tileLayer = true;
+                data.width = sparse.getWidth();
+                data.height = sparse.getHeight();
+                data.tileWidth = sparse.getTileWidth();
+                data.tileHeight = sparse.getTileHeight();
+                data.positions = new int[sparse.getCellCount()];
+                data.cells = new int[sparse.getCellCount()];
+                for (int c = 0; c < sparse.getCellCount(); c++) {
+                    TiledMapTileLayer.Cell cell = sparse.getPackedCell(c);
+                    addTile(cell.getTile(), textures, textureIndices, tiles);
+                    data.positions[c] = sparse.getPackedX(c) | sparse.getPackedY(c) << 16;
+                    data.cells[c] = cell.getTile().getId()
+                        | (cell.getFlipHorizontally() ? LevelData.FLIP_HORIZONTALLY : 0)
+                        | (cell.getFlipVertically() ? LevelData.FLIP_VERTICALLY : 0)
+                        | (cell.getRotation() & 3) << LevelData.ROTATION_SHIFT;
+                }
+            }
+
+            data.objects = new LevelData.Shape[layer.getObjects().getCount()];
+            for (int o = 0; o < data.objects.length; o++) {
+                data.objects[o] = shape(layer.getObjects().get(o), layer.getName(), textures, textureIndices, tiles);
+            }
+            level.layers[i] = data;
+        }
+
+        level.textures = textures.toArray(String.class);
+        level.tiles = new LevelData.Tile[tiles.size];
+        int t = 0;
+        for (LevelData.Tile tile : tiles.values()) {
+            level.tiles[t++] = tile;
+        }
+        level.collision = new CollisionGrid(map).getIndex();
+        return createFury().serialize(level);
+    }
+
+    private static void addTile(TiledMapTile tile, Array<String> textures, ObjectIntMap<Texture> textureIndices,
+                                IntMap<LevelData.Tile> tiles) {
+        if (tiles.containsKey(tile.getId())) return;
+        if (!(tile instanceof StaticTiledMapTile)) {
+            throw new GdxRuntimeException("Tile " + tile.getId() + ": animated tiles do not compile");
+        }
+        TextureRegion region = tile.getTextureRegion();
+        Texture texture = region.getTexture();
+        int textureIndex = textureIndices.get(texture, -1);
+        if (textureIndex == -1) {
+            TextureData textureData = texture.getTextureData();
+            if (!(textureData instanceof FileTextureData)) {
+                throw new GdxRuntimeException("Tile " + tile.getId() + ": texture is not from a file");
+            }
+            textureIndex = textures.size;
+            textures.add(((FileTextureData) textureData).getFileHandle().path());
+            textureIndices.put(texture, textureIndex);
+        }
+
+        LevelData.Tile data = new LevelData.Tile();
+        data.id = tile.getId();
+        data.texture = textureIndex;
+        data.regionX = region.getRegionX();
+        data.regionY = region.getRegionY();
+        data.regionWidth = region.getRegionWidth();
+        data.regionHeight = region.getRegionHeight();
+        data.offsetX = tile.getOffsetX();
+        data.offsetY = tile.getOffsetY();
+        tiles.put(data.id, data);
+    }
+
+    private static LevelData.Shape shape(MapObject object, String layerName, Array<String> textures,
+                                         ObjectIntMap<Texture> textureIndices, IntMap<LevelData.Tile> tiles) {
+        LevelData.Shape shape = new LevelData.Shape();
+        shape.name = object.getName();
+        shape.visible = object.isVisible();
+        shape.properties = properties(object.getProperties());
+
+        if (object instanceof RectangleMapObject) {
+            Rectangle rect = ((RectangleMapObject) object).getRectangle();
+            shape.kind = LevelData.Shape.RECTANGLE;
+            shape.x = rect.x;
+            shape.y = rect.y;
+            shape.width = rect.width;
+            shape.height = rect.height;
+        } else if (object instanceof EllipseMapObject) {
+            Ellipse ellipse = ((EllipseMapObject) object).getEllipse();
+            shape.kind = LevelData.Shape.ELLIPSE;
+            shape.x = ellipse.x;
+            shape.y = ellipse.y;
+            shape.width = ellipse.width;
+            shape.height = ellipse.height;
+        } else if (object instanceof PolygonMapObject) {
+            Polygon polygon = ((PolygonMapObject) object).getPolygon();
+            shape.kind = LevelData.Shape.POLYGON;
+            shape.x = polygon.getX();
+            shape.y = polygon.getY();
+            shape.vertices = polygon.getVertices();
+        } else if (object instanceof PolylineMapObject) {
+            Polyline polyline = ((PolylineMapObject) object).getPolyline();
+            shape.kind = LevelData.Shape.POLYLINE;
+            shape.x = polyline.getX();
+            shape.y = polyline.getY();
+            shape.vertices = polyline.getVertices();
+        } else if (object instanceof TiledMapTileMapObject) {
+            TiledMapTileMapObject tileObject = (TiledMapTileMapObject) object;
+            addTile(tileObject.getTile(), textures, textureIndices, tiles);
+            shape.kind = LevelData.Shape.TILE;
+            shape.x = tileObject.getX();
+            shape.y = tileObject.getY();
+            shape.scaleX = tileObject.getScaleX();
+            shape.scaleY = tileObject.getScaleY();
+            shape.rotation = tileObject.getRotation();
+            shape.tile = tileObject.getTile().getId()
+                | (tileObject.isFlipHorizontally() ? LevelData.FLIP_HORIZONTALLY : 0)
+                | (tileObject.isFlipVertically() ? LevelData.FLIP_VERTICALLY : 0);
+        } else {
+            throw new GdxRuntimeException("Layer " + layerName + ": " + object.getClass().getSimpleName()
+                + " objects do not compile");
+        }
+        return shape;
+    }
+
+    private static LevelData.Properties properties(MapProperties properties) {
+        Array<String> keys = new Array<>();
+        Array<Object> values = new Array<>();
+        for (Iterator<String> it = properties.getKeys(); it.hasNext(); ) {
+            String key = it.next();
+            Object value = properties.get(key);
+            if (!(value instanceof String || value instanceof Boolean || value instanceof Integer
+                || value instanceof Long || value instanceof Float || value instanceof Double)) {
+                value = String.valueOf(value); // Colors and such, nothing in the game reads them
+            }
+            keys.add(key);
+            values.add(value);
+        }
+        LevelData.Properties data = new LevelData.Properties();
+        data.keys = keys.toArray(String.class);
+        data.values = values.toArray();
+        return data;
+    }
+
+    /**
+     * Starts reading the level file of a map on a background thread, so that the
+     * Fury start-up (half a second on a cold JVM), the decode and the decoding of
+     * the tileset images overlap the splash screen. The next {@link #read} of that
+     * file waits for it.
+     */
+    public static synchronized void prefetch(String mapPath) {
+        if (prefetched != null) return;
+        FileHandle levelFile = Gdx.files.internal(levelPath(mapPath));
+        FileHandle source = Gdx.files.internal(mapPath);
+        prefetchedPath = levelFile.path();
+        prefetched = new FutureTask<>(() -> {
+            LevelData level = readNow(levelFile, source);
+            if (level != null) {
+                level.pixmaps = new Pixmap[level.textures.length];
+                for (int i = 0; i < level.textures.length; i++) {
+                    level.pixmaps[i] = new Pixmap(Gdx.files.internal(level.textures[i]));
+                }
+            }
+            return level;
+        });
+        Thread thread = new Thread(prefetched, "Level prefetch");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private static synchronized FutureTask<LevelData> takePrefetched(String path) {
+        FutureTask<LevelData> task = prefetched;
+        if (task == null || !path.equals(prefetchedPath)) return null;
+        prefetched = null;
+        prefetchedPath = null;
+        return task;
+    }
+
+    /**
+     * Reads a level file, memory mapped where the backend allows it, or takes
+     * the result of a {@link #prefetch} of it.
+     *
+     * @param source the TMX it was compiled from, checked against the recorded
+     *               CRC when it exists
+     * @return null if the file is missing, stale or unreadable
+     */
+    public static LevelData read(FileHandle levelFile, FileHandle source) {
+        FutureTask<LevelData> task = takePrefetched(levelFile.path());
+        if (task != null) {
+            try {
+                return task.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                Gdx.app.error(TAG, "Prefetch of " + levelFile.path() + " failed", e.getCause());
+            }
+        }
+        return readNow(levelFile, source);
+    }
+
+    private static LevelData readNow(FileHandle levelFile, FileHandle source) {
+        if (!levelFile.exists()) return null;
+        long start = TimeUtils.nanoTime();
+        try {
+            ByteBuffer bytes;
+            try {
+                bytes = levelFile.map();
+            } catch (GdxRuntimeException e) {
+                // Inside a jar or on a backend without files
+                bytes = ByteBuffer.wrap(levelFile.readBytes());
+            }
+            Object read = createFury().deserialize(MemoryBuffer.fromByteBuffer(bytes));
+            if (!(read instanceof LevelData) || ((LevelData) read).version != LevelData.VERSION) {
+                Gdx.app.log(TAG, levelFile.path() + " is from another version, ignoring it");
+                return null;
+            }
+            LevelData level = (LevelData) read;
+            if (source != null && source.exists() && crc(source) != level.sourceCrc) {
+                Gdx.app.log(TAG, levelFile.path() + " is older than " + source.path() + ", ignoring it");
+                return null;
+            }
+            Gdx.app.log(TAG, "Read " + levelFile.path() + " in "
+                + TimeUtils.nanosToMillis(TimeUtils.timeSinceNanos(start)) + " ms");
+            return level;
+        } catch (RuntimeException e) {
+            Gdx.app.error(TAG, "Failed to read " + levelFile.path() + ", ignoring it", e);
+            return null;
+        }
+    }
+
+    /**
+     * Builds the TiledMap, loading the tileset textures unless a prefetch already
+     * decoded them; the map owns and disposes them.
+     */
+    public static TiledMap toMap(LevelData level) {
+        TiledMap map = new TiledMap();
+        putProperties(map.getProperties(), level.properties);
+
+        Array<Texture> textures = new Array<>(level.textures.length);
+        TiledMapTileSet[] tileSets = new TiledMapTileSet[level.textures.length];
+        for (int i = 0; i < level.textures.length; i++) {
+            FileHandle file = Gdx.files.internal(level.textures[i]);
+            Pixmap pixmap = level.pixmaps != null ? level.pixmaps[i] : null;
+            // The texture takes the pixmap and still reloads from the file after a context loss
+            textures.add(new Texture(new FileTextureData(file, pixmap, null, false)));
+            tileSets[i] = new TiledMapTileSet();
+            tileSets[i].setName(level.textures[i]);
+            map.getTileSets().addTileSet(tileSets[i]);
+        }
+        map.setOwnedResources(textures);
+        level.pixmaps = null;
+
+        IntMap<TiledMapTile> tiles = new IntMap<>(level.tiles.length);
+        for (LevelData.Tile data : level.tiles) {
+            StaticTiledMapTile tile = new StaticTiledMapTile(new TextureRegion(textures.get(data.texture),
+                data.regionX, data.regionY, data.regionWidth, data.regionHeight));
+            tile.setId(data.id);
+            tile.setOffsetX(data.offsetX);
+            tile.setOffsetY(data.offsetY);
+            tileSets[data.texture].putTile(data.id, tile);
+            tiles.put(data.id, tile);
+        }
+
+        for (LevelData.Layer data : level.layers) {
+            MapLayer layer = data.tileLayer ? tileLayer(data, tiles) : new MapLayer();
+            layer.setName(data.name);
+            layer.setVisible(data.visible);
+            layer.setOpacity(data.opacity);
+            layer.setOffsetX(data.offsetX);
+            layer.setOffsetY(data.offsetY);
+            layer.setParallaxX(data.parallaxX);
+            layer.setParallaxY(data.parallaxY);
+            putProperties(layer.getProperties(), data.properties);
+            for (LevelData.Shape shape : data.objects) {
+                layer.getObjects().add(mapObject(shape, tiles));
+            }
+            map.getLayers().add(layer);
+        }
+        return map;
+    }
+
+    private static SparseTileLayer tileLayer(LevelData.Layer data, IntMap<TiledMapTile> tiles) {
+        TiledMapTileLayer.Cell[] cells = new TiledMapTileLayer.Cell[data.cells.length];
+        for (int i = 0; i < cells.length; i++) {
+            int packed = data.cells[i];
+            cells[i] = new TiledMapTileLayer.Cell()
+                .setTile(tiles.get(packed & LevelData.TILE_ID_MASK))
+                .setFlipHorizontally((packed & LevelData.FLIP_HORIZONTALLY) != 0)
+                .setFlipVertically((packed & LevelData.FLIP_VERTICALLY) != 0)
+                .setRotation(packed >>> LevelData.ROTATION_SHIFT & 3);
+        }
+        return SparseTileLayer.ofPacked(data.width, data.height, data.tileWidth, data.tileHeight,
+            data.positions, cells);
+    }
+
+    private static MapObject mapObject(LevelData.Shape shape, IntMap<TiledMapTile> tiles) {
+        MapObject object;
+        switch (shape.kind) {
+            case LevelData.Shape.RECTANGLE:
+                object = new RectangleMapObject(shape.x, shape.y, shape.width, shape.height);
+                break;
+            case LevelData.Shape.ELLIPSE:
+                object = new EllipseMapObject(shape.x, shape.y, shape.width, shape.height);
+                break;
+            case LevelData.Shape.POLYGON: {
+                Polygon polygon = new Polygon(shape.vertices);
+                polygon.setPosition(shape.x, shape.y);
+                object = new PolygonMapObject(polygon);
+                break;
+            }
+            case LevelData.Shape.POLYLINE: {
+                Polyline polyline = new Polyline(shape.vertices);
+                polyline.setPosition(shape.x, shape.y);
+                object = new PolylineMapObject(polyline);
+                break;
+            }
+            case LevelData.Shape.TILE: {
+                TiledMapTileMapObject tileObject = new TiledMapTileMapObject(
+                    tiles.get(shape.tile & LevelData.TILE_ID_MASK),
+                    (shape.tile & LevelData.FLIP_HORIZONTALLY) != 0,
+                    (shape.tile & LevelData.FLIP_VERTICALLY) != 0);
+                tileObject.setX(shape.x);
+                tileObject.setY(shape.y);
+                tileObject.setScaleX(shape.scaleX);
+                tileObject.setScaleY(shape.scaleY);
+                tileObject.setRotation(shape.rotation);
+                object = tileObject;
+                break;
+            }
+            default:
+                throw new GdxRuntimeException("Unknown object kind " + shape.kind);
+        }
+        object.setName(shape.name);
+        object.setVisible(shape.visible);
+        putProperties(object.getProperties(), shape.properties);
+        return object;
+    }
+
+    private static void putProperties(MapProperties properties, LevelData.Properties data) {
+        for (int i = 0; i < data.keys.length; i++) {
+            properties.put(data.keys[i], data.values[i]);
+        }
+    }
+}
@@ -0,0 +1,309 @@
+package io.github.HustSavior.map;
+
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.MapLayers;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * A tile layer that only stores its non-empty cells. The grid is split into
+ * chunks of {@link #CHUNK_CELLS} x {@link #CHUNK_CELLS} cells; each chunk has a
+ * 256-bit occupancy bitmap and a run in one packed array of cells, so a lookup
+ * is a bit test plus a popcount and a walk over the layer never touches an empty
+ * chunk. Most of the map's decoration layers are a few hundred tiles on a
+ * 149x110 grid, which TmxMapLoader would keep as a full Cell[][] each.
+ *
+ * It is still a TiledMapTileLayer, so the map renderers and anything that calls
+ * getCell keep working unchanged.
+ */
+public class SparseTileLayer extends TiledMapTileLayer {
+    public static final int CHUNK_CELLS = 16;
+
+    private static final int CHUNK_SHIFT = 4; // log2(CHUNK_CELLS)
+    private static final int WORDS_PER_CHUNK = CHUNK_CELLS * CHUNK_CELLS / 64;
+
+    private final int width;
+    private final int height;
+    private final int chunkColumns;
+    private final int chunkRows;
+
+    // WORDS_PER_CHUNK words per chunk; bit (localY * CHUNK_CELLS + localX) is set for a non-empty cell
+    private final long[] occupancy;
+    // Packed cells of chunk c are [chunkStart[c], chunkStart[c + 1]), in bit order
+    private final int[] chunkStart;
+    private Cell[] cells;
+    private int[] positions; // x | y << 16 for each packed cell
+    private int cellCount;
+
+    public SparseTileLayer(int width, int height, int tileWidth, int tileHeight) {
+        // The dense grid of the superclass is never used
+        super(0, 0, tileWidth, tileHeight);
+        this.width = width;
+        this.height = height;
+        this.chunkColumns = (width + CHUNK_CELLS - 1) >> CHUNK_SHIFT;
+        this.chunkRows = (height + CHUNK_CELLS - 1) >> CHUNK_SHIFT;
+        this.occupancy = new long[chunkColumns * chunkRows * WORDS_PER_CHUNK];
+        this.chunkStart = new int[chunkColumns * chunkRows + 1];
+        this.cells = new Cell[0];
+        this.positions = new int[0];
+    }
+
+    /** Copies the non-empty cells and the layer attributes of a loaded layer. */
+    public static SparseTileLayer of(TiledMapTileLayer dense) {
+        SparseTileLayer sparse = new SparseTileLayer(dense.getWidth(), dense.getHeight(),
+            dense.getTileWidth(), dense.getTileHeight());
+        sparse.setName(dense.getName());
+        sparse.setOpacity(dense.getOpacity());
+        sparse.setVisible(dense.isVisible());
+        sparse.setOffsetX(dense.getOffsetX());
+        sparse.setOffsetY(dense.getOffsetY());
+        sparse.setParallaxX(dense.getParallaxX());
+        sparse.setParallaxY(dense.getParallaxY());
+        sparse.getProperties().putAll(dense.getProperties());
+
+        // Count per chunk first so the packed arrays are filled in one pass, without shifting
+        int chunkCount = sparse.chunkColumns * sparse.chunkRows;
+        int[] counts = new int[chunkCount];
+        for (int y = 0; y < dense.getHeight(); y++) {
+            for (int x = 0; x < dense.getWidth(); x++) {
+                Cell cell = dense.getCell(x, y);
+                if (cell != null && cell.getTile() != null) {
+                    counts[sparse.chunkIndex(x, y)]++;
+                }
+            }
+        }
+        for (int c = 0; c < chunkCount; c++) {
+            sparse.chunkStart[c + 1] = sparse.chunkStart[c] + counts[c];
+        }
+        sparse.cellCount = sparse.chunkStart[chunkCount];
+        sparse.cells = new Cell[sparse.cellCount];
+        sparse.positions = new int[sparse.cellCount];
+
+        // Chunk by chunk in bit order, the order getCell ranks in
+        for (int chunkY = 0; chunkY < sparse.chunkRows; chunkY++) {
+            for (int chunkX = 0; chunkX < sparse.chunkColumns; chunkX++) {
+                int chunk = chunkY * sparse.chunkColumns + chunkX;
+                if (counts[chunk] == 0) continue;
+                int next = sparse.chunkStart[chunk];
+                int endY = Math.min(dense.getHeight(), (chunkY + 1) << CHUNK_SHIFT);
+                int endX = Math.min(dense.getWidth(), (chunkX + 1) << CHUNK_SHIFT);
+                for (int y = chunkY << CHUNK_SHIFT; y < endY; y++) {
+                    for (int x = chunkX << CHUNK_SHIFT; x < endX; x++) {
+                        Cell cell = dense.getCell(x, y);
+                        if (cell == null || cell.getTile() == null) continue;
+                        int bit = bitIndex(x, y);
+                        sparse.occupancy[chunk * WORDS_PER_CHUNK + (bit >> 6)] |= 1L << bit;
+                        sparse.cells[next] = cell;
+                        sparse.positions[next] = x | y << 16;
+                        next++;
+                    }
+                }
+            }
+        }
+        return sparse;
+    }
+
+    /**
+     * A layer from cells that are already packed, in the order
+     * {@link #getPackedCell(int)} of some layer of the same size returned them.
+     *
+     * @param positions x | y << 16 per cell
+     */
+    public static SparseTileLayer ofPacked(int width, int height, int tileWidth, int tileHeight,
+                                           int[] positions, Cell[] cells) {
+        SparseTileLayer sparse = new SparseTileLayer(width, height, tileWidth, tileHeight);
+        for (int i = 0; i < positions.length; i++) {
+            int x = positions[i] & 0xFFFF;
+            int y = positions[i] >>> 16;
+            int chunk = sparse.chunkIndex(x, y);
+            int bit = bitIndex(x, y);
+            sparse.occupancy[chunk * WORDS_PER_CHUNK + (bit >> 6)] |= 1L << bit;
+            sparse.chunkStart[chunk + 1]++;
+        }
+        for (int c = 1; c < sparse.chunkStart.length; c++) {
+            sparse.chunkStart[c] += sparse.chunkStart[c - 1];
+        }
+        sparse.cellCount = positions.length;
+        sparse.cells = cells;
+        sparse.positions = positions;
+        return sparse;
+    }
+
+    /**
+     * Replaces every tile layer of the map by its sparse copy, in place, so that
+     * lookups by name or index find the sparse one.
+     *
+     * @return the number of layers replaced
+     */
+    public static int compact(TiledMap map) {
+        MapLayers layers = map.getLayers();
+        Array<MapLayer> ordered = new Array<>(layers.getCount());
+        int replaced = 0;
+        for (MapLayer layer : layers) {
+            if (layer instanceof TiledMapTileLayer && !(layer instanceof SparseTileLayer)) {
+                ordered.add(of((TiledMapTileLayer) layer));
+                replaced++;
+            } else {
+                ordered.add(layer);
+            }
+        }
+        if (replaced == 0) return 0;
+
+        // MapLayers has no set(index, layer), so rebuild it in the same order
+        while (layers.getCount() > 0) {
+            layers.remove(layers.getCount() - 1);
+        }
+        for (MapLayer layer : ordered) {
+            layers.add(layer);
+        }
+        return replaced;
+    }
+
+    private int chunkIndex(int x, int y) {
+        return (y >> CHUNK_SHIFT) * chunkColumns + (x >> CHUNK_SHIFT);
+    }
+
+    // Index of the cell's bit within its chunk's bitmap
+    private static int bitIndex(int x, int y) {
+        return (y & (CHUNK_CELLS - 1)) << CHUNK_SHIFT | (x & (CHUNK_CELLS - 1));
+    }
+
+    // Packed index of an occupied cell, or -1
+    private int find(int x, int y) {
+        if (x < 0 || y < 0 || x >= width || y >= height) return -1;
+        int chunk = chunkIndex(x, y);
+        int bit = bitIndex(x, y);
+        int base = chunk * WORDS_PER_CHUNK;
+        long word = occupancy[base + (bit >> 6)];
+        if ((word & 1L << bit) == 0) return -1;
+
+        int rank = chunkStart[chunk];
+        for (int w = base, end = base + (bit >> 6); w < end; w++) {
+            rank += Long.bitCount(occupancy[w]);
+        }
+        return rank + Long.bitCount(word & ((1L << bit) - 1));
+    }
+
+    @Override
+    public int getWidth() {
+        return width;
+    }
+
+    @Override
+    public int getHeight() {
+        return height;
+    }
+
+    @Override
+    public Cell getCell(int x, int y) {
+        int index = find(x, y);
+        return index == -1 ? null : cells[index];
+    }
+
+    // Cells with a tile only; a cell without one is stored as empty
+    public boolean hasTile(int x, int y) {
+        return find(x, y) != -1;
+    }
+
+    /**
+     * Sets or clears one cell. Adding or removing a cell shifts the packed arrays,
+     * so this is for edits at load time, not per frame.
+     */
+    @Override
+    public void setCell(int x, int y, Cell cell) {
+        if (x < 0 || y < 0 || x >= width || y >= height) return;
+        boolean empty = cell == null || cell.getTile() == null;
+        int index = find(x, y);
+        if (index != -1) {
+            if (empty) {
+                remove(x, y, index);
+            } else {
+                cells[index] = cell;
+            }
+        } else if (!empty) {
+            insert(x, y, cell);
+        }
+    }
+
+    private void insert(int x, int y, Cell cell) {
+        int chunk = chunkIndex(x, y);
+        int bit = bitIndex(x, y);
+        occupancy[chunk * WORDS_PER_CHUNK + (bit >> 6)] |= 1L << bit;
+        int index = find(x, y);
+
+        if (cellCount == cells.length) {
+            int capacity = Math.max(8, cellCount + (cellCount >> 1));
+            Cell[] grownCells = new Cell[capacity];
+            int[] grownPositions = new int[capacity];
+            System.arraycopy(cells, 0, grownCells, 0, cellCount);
+            System.arraycopy(positions, 0, grownPositions, 0, cellCount);
+            cells = grownCells;
+            positions = grownPositions;
+        }
+        System.arraycopy(cells, index, cells, index + 1, cellCount - index);
+        System.arraycopy(positions, index, positions, index + 1, cellCount - index);
+        cells[index] = cell;
+        positions[index] = x | y << 16;
+        cellCount++;
+        for (int c = chunk + 1; c < chunkStart.length; c++) {
+            chunkStart[c]++;
+        }
+    }
+
+    private void remove(int x, int y, int index) {
+        int chunk = chunkIndex(x, y);
+        int bit = bitIndex(x, y);
+        occupancy[chunk * WORDS_PER_CHUNK + (bit >> 6)] &= ~(1L << bit);
+
+        System.arraycopy(cells, index + 1, cells, index, cellCount - index - 1);
+        System.arraycopy(positions, index + 1, positions, index, cellCount - index - 1);
+        cellCount--;
+        cells[cellCount] = null;
+        for (int c = chunk + 1; c < chunkStart.length; c++) {
+            chunkStart[c]--;
+        }
+    }
+
+    public int getCellCount() {
+        return cellCount;
+    }
+
+    public int getChunkColumns() {
+        return chunkColumns;
+    }
+
+    public int getChunkRows() {
+        return chunkRows;
+    }
+
+    public boolean isChunkEmpty(int chunkX, int chunkY) {
+        int chunk = chunkY * chunkColumns + chunkX;
+        return chunkStart[chunk] == chunkStart[chunk + 1];
+    }
+
+    /**
+     * The chunk's cells are the packed indices from this up to
+     * {@link #getChunkEnd(int, int)}; read them with {@link #getPackedCell(int)},
+     * {@link #getPackedX(int)} and {@link #getPackedY(int)}.
+     */
+    public int getChunkStart(int chunkX, int chunkY) {
+        return chunkStart[chunkY * chunkColumns + chunkX];
+    }
+
+    public int getChunkEnd(int chunkX, int chunkY) {
+        return chunkStart[chunkY * chunkColumns + chunkX + 1];
+    }
+
+    public Cell getPackedCell(int index) {
+        return cells[index];
+    }
+
+    public int getPackedX(int index) {
+        return positions[index] & 0xFFFF;
+    }
+
+    public int getPackedY(int index) {
+        return positions[index] >>> 16;
+    }
+}
@@ -0,0 +1,252 @@
+package io.github.HustSavior.map;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.MapLayers;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTile;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.renderers.BatchTiledMapRenderer;
+import com.badlogic.gdx.maps.tiled.tiles.AnimatedTiledMapTile;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/**
+ * The map's tile layers baked into a SpriteCache once, in chunks of
+ * {@link #CHUNK_CELLS} x {@link #CHUNK_CELLS} cells. A frame only draws the
+ * chunks that intersect the camera, straight from vertex buffers on the GPU,
+ * instead of emitting every visible tile of every layer again. Chunks come from
+ * {@link SparseTileLayer}, so empty ones are neither baked nor visited.
+ *
+ * Layer opacity is a shader uniform, so the transparency managers can fade
+ * buildings and trees without a rebuild. Layers the cache cannot hold (animated
+ * tiles, parallax) are drawn by the regular renderer in their place.
+ */
+public class TileLayerCache implements Disposable {
+    public static final int CHUNK_CELLS = SparseTileLayer.CHUNK_CELLS;
+
+    private static final String VERTEX_SHADER =
+        "attribute vec4 " + ShaderProgram.POSITION_ATTRIBUTE + ";\n"
+        + "attribute vec4 " + ShaderProgram.COLOR_ATTRIBUTE + ";\n"
+        + "attribute vec2 " + ShaderProgram.TEXCOORD_ATTRIBUTE + "0;\n"
+        + "uniform mat4 u_proj;\n"
+        + "uniform mat4 u_trans;\n"
+        + "varying vec4 v_color;\n"
+        + "varying vec2 v_texCoords;\n"
+        + "void main() {\n"
+        + "   v_color = " + ShaderProgram.COLOR_ATTRIBUTE + ";\n"
+        + "   v_texCoords = " + ShaderProgram.TEXCOORD_ATTRIBUTE + "0;\n"
+        + "   gl_Position = u_proj * u_trans * " + ShaderProgram.POSITION_ATTRIBUTE + ";\n"
+        + "}\n";
+
+    private static final String FRAGMENT_SHADER =
+        "#ifdef GL_ES\n"
+        + "precision mediump float;\n"
+        + "#endif\n"
+        + "varying vec4 v_color;\n"
+        + "varying vec2 v_texCoords;\n"
+        + "uniform sampler2D u_texture;\n"
+        + "uniform float u_opacity;\n"
+        + "void main() {\n"
+        + "   vec4 color = v_color * texture2D(u_texture, v_texCoords);\n"
+        + "   gl_FragColor = vec4(color.rgb, color.a * u_opacity);\n"
+        + "}\n";
+
+    private final MapLayers layers;
+    private final BatchTiledMapRenderer fallbackRenderer;
+    private final SpriteCache cache;
+    private final ShaderProgram shader;
+
+    // Per map layer, null for layers that are not cached
+    private final CachedLayer[] cachedLayers;
+
+    private final Rectangle view = new Rectangle();
+    private boolean drawing; // Between cache.begin() and cache.end()
+
+    // The non-empty chunks of one tile layer, with the bounds of what each one draws
+    private static class CachedLayer {
+        final int[] cacheIds;
+        final float[] bounds; // minX, minY, maxX, maxY per chunk, pixels
+
+        CachedLayer(int chunks) {
+            cacheIds = new int[chunks];
+            bounds = new float[chunks * 4];
+        }
+    }
+
+    /**
+     * @param fallbackRenderer draws the layers the cache cannot hold
+     */
+    public TileLayerCache(TiledMap map, BatchTiledMapRenderer fallbackRenderer) {
+        this.layers = map.getLayers();
+        this.fallbackRenderer = fallbackRenderer;
+        this.cachedLayers = new CachedLayer[layers.getCount()];
+
+        shader = new ShaderProgram(VERTEX_SHADER, FRAGMENT_SHADER);
+        if (!shader.isCompiled()) {
+            throw new GdxRuntimeException("Tile layer shader: " + shader.getLog());
+        }
+        // SpriteCache also sets u_projTrans, which this shader leaves out; a lookup that
+        // is allowed to miss caches it as absent, so begin() does not fail in pedantic mode
+        shader.fetchUniformLocation("u_projTrans", false);
+
+        int tiles = 0;
+        SparseTileLayer[] baked = new SparseTileLayer[layers.getCount()];
+        for (int i = 0; i < layers.getCount(); i++) {
+            if (isCacheable(layers.get(i))) {
+                baked[i] = sparse((TiledMapTileLayer) layers.get(i));
+                tiles += baked[i].getCellCount();
+            }
+        }
+        // Without indices a SpriteCache is not limited to 8191 sprites
+        cache = new SpriteCache(Math.max(1, tiles), false);
+        cache.setShader(shader);
+
+        int chunks = 0;
+        for (int i = 0; i < layers.getCount(); i++) {
+            if (baked[i] != null) {
+                cachedLayers[i] = bake(baked[i]);
+                chunks += cachedLayers[i].cacheIds.length;
+            }
+        }
+        Gdx.app.log("TileLayerCache", "Baked " + tiles + " tiles into " + chunks + " chunks");
+    }
+
+    // Static tiles without parallax; everything else needs the renderer every frame
+    private static boolean isCacheable(MapLayer layer) {
+        if (!(layer instanceof TiledMapTileLayer)) return false;
+        if (layer.getParallaxX() != 1 || layer.getParallaxY() != 1) return false;
+        SparseTileLayer sparse = sparse((TiledMapTileLayer) layer);
+        for (int i = 0; i < sparse.getCellCount(); i++) {
+            if (sparse.getPackedCell(i).getTile() instanceof AnimatedTiledMapTile) return false;
+        }
+        return true;
+    }
+
+    // GameMap compacts its layers at load; a map loaded elsewhere is compacted here for the bake only
+    private static SparseTileLayer sparse(TiledMapTileLayer layer) {
+        return layer instanceof SparseTileLayer ? (SparseTileLayer) layer : SparseTileLayer.of(layer);
+    }
+
+    private CachedLayer bake(SparseTileLayer layer) {
+        int chunkColumns = layer.getChunkColumns();
+        int chunkRows = layer.getChunkRows();
+        int occupied = 0;
+        for (int chunkY = 0; chunkY < chunkRows; chunkY++) {
+            for (int chunkX = 0; chunkX < chunkColumns; chunkX++) {
+                if (!layer.isChunkEmpty(chunkX, chunkY)) occupied++;
+            }
+        }
+        CachedLayer cached = new CachedLayer(occupied);
+
+        // Same placement as OrthogonalTiledMapRenderer at unit scale 1
+        float tileWidth = layer.getTileWidth();
+        float tileHeight = layer.getTileHeight();
+        float offsetX = layer.getRenderOffsetX();
+        float offsetY = -layer.getRenderOffsetY();
+
+        int chunk = 0;
+        for (int chunkY = 0; chunkY < chunkRows; chunkY++) {
+            for (int chunkX = 0; chunkX < chunkColumns; chunkX++) {
+                if (layer.isChunkEmpty(chunkX, chunkY)) continue;
+                float minX = Float.MAX_VALUE, minY = Float.MAX_VALUE;
+                float maxX = -Float.MAX_VALUE, maxY = -Float.MAX_VALUE;
+
+                cache.beginCache();
+                for (int i = layer.getChunkStart(chunkX, chunkY), end = layer.getChunkEnd(chunkX, chunkY); i < end; i++) {
+                    TiledMapTileLayer.Cell cell = layer.getPackedCell(i);
+                    TiledMapTile tile = cell.getTile();
+                    TextureRegion region = tile.getTextureRegion();
+                    float width = region.getRegionWidth();
+                    float height = region.getRegionHeight();
+                    float drawX = layer.getPackedX(i) * tileWidth + offsetX + tile.getOffsetX();
+                    float drawY = layer.getPackedY(i) * tileHeight + offsetY + tile.getOffsetY();
+                    if (cell.getFlipHorizontally() || cell.getFlipVertically() || cell.getRotation() != 0) {
+                        cache.add(region, drawX, drawY, width / 2, height / 2, width, height,
+                            cell.getFlipHorizontally() ? -1 : 1, cell.getFlipVertically() ? -1 : 1,
+                            cell.getRotation() * 90);
+                    } else {
+                        cache.add(region, drawX, drawY);
+                    }
+                    // Rotation keeps the quad inside the square around its centre
+                    float extent = Math.max(width, height);
+                    minX = Math.min(minX, drawX + (width - extent) / 2);
+                    minY = Math.min(minY, drawY + (height - extent) / 2);
+                    maxX = Math.max(maxX, drawX + (width + extent) / 2);
+                    maxY = Math.max(maxY, drawY + (height + extent) / 2);
+                }
+
+                cached.cacheIds[chunk] = cache.endCache();
+                cached.bounds[chunk * 4] = minX;
+                cached.bounds[chunk * 4 + 1] = minY;
+                cached.bounds[chunk * 4 + 2] = maxX;
+                cached.bounds[chunk * 4 + 3] = maxY;
+                chunk++;
+            }
+        }
+        return cached;
+    }
+
+    /** Draws the map layers with index in [fromLayer, toLayer), in map order. */
+    public void render(OrthographicCamera camera, int fromLayer, int toLayer) {
+        float width = camera.viewportWidth * camera.zoom;
+        float height = camera.viewportHeight * camera.zoom;
+        view.set(camera.position.x - width / 2, camera.position.y - height / 2, width, height);
+        cache.setProjectionMatrix(camera.combined);
+
+        int end = Math.min(toLayer, layers.getCount());
+        for (int i = Math.max(0, fromLayer); i < end; i++) {
+            MapLayer layer = layers.get(i);
+            if (!layer.isVisible() || layer.getOpacity() <= 0) continue;
+            if (cachedLayers[i] != null) {
+                drawCached(cachedLayers[i], layer.getOpacity());
+            } else if (layer instanceof TiledMapTileLayer) {
+                drawWithRenderer((TiledMapTileLayer) layer, camera);
+            }
+        }
+        if (drawing) {
+            cache.end();
+            drawing = false;
+        }
+    }
+
+    private void drawCached(CachedLayer cached, float opacity) {
+        if (!drawing) {
+            cache.begin();
+            drawing = true;
+        }
+        shader.setUniformf("u_opacity", opacity);
+
+        float[] bounds = cached.bounds;
+        float viewRight = view.x + view.width;
+        float viewTop = view.y + view.height;
+        for (int chunk = 0; chunk < cached.cacheIds.length; chunk++) {
+            int b = chunk * 4;
+            if (bounds[b] > viewRight || bounds[b + 2] < view.x || bounds[b + 1] > viewTop || bounds[b + 3] < view.y) continue;
+            cache.draw(cached.cacheIds[chunk]);
+        }
+    }
+
+    private void drawWithRenderer(TiledMapTileLayer layer, OrthographicCamera camera) {
+        if (drawing) {
+            cache.end();
+            drawing = false;
+        }
+        AnimatedTiledMapTile.updateAnimationBaseTime();
+        fallbackRenderer.setView(camera);
+        fallbackRenderer.getBatch().begin();
+        fallbackRenderer.renderTileLayer(layer);
+        fallbackRenderer.getBatch().end();
+    }
+
+    @Override
+    public void dispose() {
+        cache.dispose();
+        shader.dispose();
+    }
+}
@@ -0,0 +1,230 @@
+package io.github.HustSavior.pathfinding;
+
+import java.util.Arrays;
+
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.math.Vector2;
+
+import io.github.HustSavior.collision.CollisionWorld;
+
+/**
+ * Shared path field towards one target (the player) over the map's tile grid.
+ *
+ * A tile is blocked when its core overlaps a wall of the "collisions" layer. A
+ * Dijkstra pass from the target cell (8-way, no corner cutting) stores for every
+ * reachable cell the neighbour one step closer to the target, so steering a
+ * monster is a constant-time lookup no matter how many monsters there are. The
+ * field is only rebuilt when the target enters a different cell, and rebuilding
+ * reuses preallocated arrays.
+ */
+public class FlowField {
+    private static final int STRAIGHT_COST = 10;
+    private static final int DIAGONAL_COST = 14;
+    private static final int UNREACHABLE = Integer.MAX_VALUE;
+    private static final byte NO_DIRECTION = -1;
+
+    // Pixels trimmed from each tile side before the wall test, so a wall that only grazes a tile does not close it
+    private static final float BLOCKED_MARGIN = 1f;
+
+    // Neighbour offsets; the first four are the straight ones
+    private static final int[] OFFSET_X = {1, -1, 0, 0, 1, -1, 1, -1};
+    private static final int[] OFFSET_Y = {0, 0, 1, -1, 1, 1, -1, -1};
+
+    private final int columns;
+    private final int rows;
+    private final float tileWidth;
+    private final float tileHeight;
+
+    private final boolean[] blocked;
+    private final int[] cost;
+    private final byte[] direction; // Neighbour index towards the target, or NO_DIRECTION
+
+    // Binary min-heap of (cost << 32 | cell); stale entries are skipped when popped
+    private final long[] heap;
+    private int heapSize;
+
+    private int targetCell = -1;
+
+    public FlowField(TiledMap map) {
+        columns = map.getProperties().get("width", Integer.class);
+        rows = map.getProperties().get("height", Integer.class);
+        tileWidth = map.getProperties().get("tilewidth", Integer.class);
+        tileHeight = map.getProperties().get("tileheight", Integer.class);
+
+        int cellCount = columns * rows;
+        blocked = new boolean[cellCount];
+        cost = new int[cellCount];
+        direction = new byte[cellCount];
+        heap = new long[cellCount * OFFSET_X.length + 1];
+
+        CollisionWorld walls = CollisionWorld.get(map);
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                blocked[row * columns + column] = walls.overlapsPixels(
+                    column * tileWidth + BLOCKED_MARGIN, row * tileHeight + BLOCKED_MARGIN,
+                    tileWidth - 2 * BLOCKED_MARGIN, tileHeight - 2 * BLOCKED_MARGIN);
+            }
+        }
+        Arrays.fill(cost, UNREACHABLE);
+        Arrays.fill(direction, NO_DIRECTION);
+    }
+
+    /**
+     * Moves the target to the pixel position and rebuilds the field if it changed cell.
+     *
+     * @return true if the field was rebuilt
+     */
+    public boolean setTarget(float x, float y) {
+        int cell = cellAt(x, y);
+        if (cell < 0 || cell == targetCell) return false;
+        targetCell = cell;
+        rebuild();
+        return true;
+    }
+
+    /**
+     * Writes the unit direction a mover at the pixel position should head in to
+     * follow the field: towards the centre of the next cell on its path.
+     *
+     * @return false if the position is in the target cell, outside the map or cut
+     *         off from the target; the caller should then steer directly
+     */
+    public boolean getDirection(float x, float y, Vector2 out) {
+        int cell = cellAt(x, y);
+        if (cell < 0 || cell == targetCell) return false;
+
+        int next = direction[cell];
+        int column = cell % columns;
+        int row = cell / columns;
+        if (next == NO_DIRECTION) {
+            // Standing on a blocked tile (e.g. brushing a wall): head for the best open neighbour
+            next = bestNeighbour(column, row);
+            if (next == NO_DIRECTION) return false;
+        }
+
+        float targetX = (column + OFFSET_X[next] + 0.5f) * tileWidth;
+        float targetY = (row + OFFSET_Y[next] + 0.5f) * tileHeight;
+        out.set(targetX - x, targetY - y);
+        if (out.isZero()) return false;
+        out.nor();
+        return true;
+    }
+
+    // Path cost to the target in tiles, or -1 when unreachable
+    public float getDistance(float x, float y) {
+        int cell = cellAt(x, y);
+        if (cell < 0 || cost[cell] == UNREACHABLE) return -1;
+        return cost[cell] / (float) STRAIGHT_COST;
+    }
+
+    public boolean isBlocked(float x, float y) {
+        int cell = cellAt(x, y);
+        return cell < 0 || blocked[cell];
+    }
+
+    private int cellAt(float x, float y) {
+        if (x < 0 || y < 0) return -1;
+        int column = (int) (x / tileWidth);
+        int row = (int) (y / tileHeight);
+        if (column >= columns || row >= rows) return -1;
+        return row * columns + column;
+    }
+
+    private void rebuild() {
+        Arrays.fill(cost, UNREACHABLE);
+        Arrays.fill(direction, NO_DIRECTION);
+        heapSize = 0;
+
+        // The target cell is seeded even if blocked, the player can stand next to a wall
+        cost[targetCell] = 0;
+        push(0, targetCell);
+
+        while (heapSize > 0) {
+            long entry = pop();
+            int cell = (int) entry;
+            int cellCost = (int) (entry >>> 32);
+            if (cellCost > cost[cell]) continue; // Stale
+
+            int column = cell % columns;
+            int row = cell / columns;
+            for (int i = 0; i < OFFSET_X.length; i++) {
+                int nx = column + OFFSET_X[i];
+                int ny = row + OFFSET_Y[i];
+                if (!isOpen(nx, ny)) continue;
+                boolean diagonal = i >= 4;
+                // No cutting corners past a wall
+                if (diagonal && (!isOpen(nx, row) || !isOpen(column, ny))) continue;
+
+                int neighbour = ny * columns + nx;
+                int newCost = cellCost + (diagonal ? DIAGONAL_COST : STRAIGHT_COST);
+                if (newCost < cost[neighbour]) {
+                    cost[neighbour] = newCost;
+                    direction[neighbour] = (byte) opposite(i); // Step back towards cell
+                    push(newCost, neighbour);
+                }
+            }
+        }
+    }
+
+    private int bestNeighbour(int column, int row) {
+        int best = NO_DIRECTION;
+        int bestCost = UNREACHABLE;
+        for (int i = 0; i < OFFSET_X.length; i++) {
+            int nx = column + OFFSET_X[i];
+            int ny = row + OFFSET_Y[i];
+            if (!isOpen(nx, ny)) continue;
+            int neighbourCost = cost[ny * columns + nx];
+            if (neighbourCost < bestCost) {
+                bestCost = neighbourCost;
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    private boolean isOpen(int column, int row) {
+        return column >= 0 && row >= 0 && column < columns && row < rows && !blocked[row * columns + column];
+    }
+
+    // Index of the offset pointing the other way
+    private static int opposite(int i) {
+        switch (i) {
+            case 0: return 1;
+            case 1: return 0;
+            case 2: return 3;
+            case 3: return 2;
+            case 4: return 7;
+            case 5: return 6;
+            case 6: return 5;
+            default: return 4;
+        }
+    }
+
+    private void push(int entryCost, int cell) {
+        int i = heapSize++;
+        long entry = ((long) entryCost << 32) | cell;
+        while (i > 0) {
+            int parent = (i - 1) >> 1;
+            if (heap[parent] <= entry) break;
+            heap[i] = heap[parent];
+            i = parent;
+        }
+        heap[i] = entry;
+    }
+
+    private long pop() {
+        long top = heap[0];
+        long last = heap[--heapSize];
+        int i = 0;
+        int half = heapSize >> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            if (child + 1 < heapSize && heap[child + 1] < heap[child]) child++;
+            if (last <= heap[child]) break;
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = last;
+        return top;
+    }
+}
@@ -11,6 +11,7 @@ import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
 
+import io.github.HustSavior.assets.GameAssets;
 import io.github.HustSavior.HustSavior;
 import io.github.HustSavior.sound.MusicPlayer;
 import io.github.HustSavior.utils.GameConfig;
@@ -47,8 +48,8 @@ public class DeathScreen implements Screen {
         camera.update();
         
         this.stage = new Stage(new ScreenViewport());
-        this.skin = new Skin(Gdx.files.internal("UI/dialogue/dialog.json"));
-        this.background = new Texture("screen/deadscreen.png");
+        this.skin = GameAssets.getInstance().getSkin("UI/dialogue/dialog.json");
+        this.background = GameAssets.getInstance().getTexture("screen/deadscreen.png");
         
         Gdx.input.setInputProcessor(stage);
         musicPlayer = MusicPlayer.getInstance();
@@ -131,8 +132,6 @@ public class DeathScreen implements Screen {
     @Override
     public void dispose() {
         stage.dispose();
-        skin.dispose();
-        background.dispose();
     }
 
     @Override public void resize(int width, int height) {
@@ -15,6 +15,7 @@ import com.badlogic.gdx.utils.viewport.ScreenViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 
 import io.github.HustSavior.HustSavior;
+import io.github.HustSavior.assets.GameAssets;
 import io.github.HustSavior.sound.MusicPlayer;
 import io.github.HustSavior.ui.PlayButton;
 import io.github.HustSavior.ui.SettingsButton;
@@ -26,7 +27,7 @@ public class MainMenuScreen implements Screen {
     private Texture background;
     private Stage stage;
     private ArrayList<Button> buttons ;
-    private final String SPLASH_PATH = "screen/mainmenu.png";
+    private final String SPLASH_PATH = "screen/mainMenu.png";
     private boolean  useBlackScreen = false;
     private final OrthographicCamera camera;
     private final Viewport viewport;
@@ -54,7 +55,7 @@ public class MainMenuScreen implements Screen {
     private void loadBackGround(){
         try {
             if (Gdx.files.internal(SPLASH_PATH).exists()) {
-                background = new Texture(SPLASH_PATH);
+                background = GameAssets.getInstance().getTexture(SPLASH_PATH);
                 Gdx.app.log("SplashScreen", "Splash texture loaded successfully");
             } else {
                 createBlackTexture();
@@ -140,10 +141,9 @@ public class MainMenuScreen implements Screen {
 
     @Override
     public void dispose() {
-        background.dispose();
-        stage.dispose();
-        for(Button x : buttons){
-            x.getSkin().dispose();
+        if (useBlackScreen) {
+            background.dispose();
         }
+        stage.dispose();
     }
 }
@@ -0,0 +1,412 @@
+package io.github.HustSavior.simulation;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.PooledEngine;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.Game;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.MapObject;
+import com.badlogic.gdx.maps.objects.RectangleMapObject;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+
+import io.github.HustSavior.assets.GameAssets;
+import io.github.HustSavior.bullet.BulletManager;
+import io.github.HustSavior.collision.CollisionBodyFactory;
+import io.github.HustSavior.collision.CollisionListener;
+import io.github.HustSavior.collision.CollisionWorld;
+import io.github.HustSavior.ecs.MonsterRegistry;
+import io.github.HustSavior.ecs.systems.BulletSystem;
+import io.github.HustSavior.ecs.systems.MonsterAISystem;
+import io.github.HustSavior.ecs.systems.MonsterAnimationSystem;
+import io.github.HustSavior.ecs.systems.MovementSystem;
+import io.github.HustSavior.ecs.systems.PickupSystem;
+import io.github.HustSavior.entities.Player;
+import io.github.HustSavior.input.InputHandler;
+import io.github.HustSavior.items.AssetSetter;
+import io.github.HustSavior.items.Item;
+import io.github.HustSavior.map.GameMap;
+import io.github.HustSavior.map.HighgroundManager;
+import io.github.HustSavior.map.LowgroundManager;
+import io.github.HustSavior.pathfinding.FlowField;
+import io.github.HustSavior.spawn.SpawnManager;
+import io.github.HustSavior.spawner.MonsterSpawnManager;
+import io.github.HustSavior.utils.AllocationProfiler;
+import io.github.HustSavior.utils.GameConfig;
+
+/**
+ * The game state and everything that advances it: the map and its Box2D world,
+ * the player, monsters, bullets, skills, pickups and the spawners. One call to
+ * {@link #tick(float)} is one fixed step. Nothing here draws or owns UI, so the
+ * same simulation runs inside the Play screen and under the headless backend;
+ * whatever needs a dialog is handed to the {@link Listener}.
+ */
+public class GameSimulation implements Disposable {
+    public static final String MAP_PATH = "map/map.tmx";
+    public static final float PLAYER_START_X = 400;
+    public static final float PLAYER_START_Y = 500;
+
+    private static final float PPM = GameConfig.PPM;
+    private static final int VELOCITY_ITERATIONS = 2;
+    private static final int POSITION_ITERATIONS = 1;
+    private static final float LEVEL_UP_INTERVAL = 30f; // 30 seconds
+    private static final float SPAWN_INTERVAL = 2f;
+    private static final int INITIAL_MONSTERS = 3;
+    private static final float ITEM_SPAWN_INTERVAL = 10f; // Spawn every 10 seconds
+    private static final float INFECTION_TIME = 180f; // 3 minutes in seconds
+    private static final float INFECTION_DAMAGE = 10f;
+    private static final float INFECTION_TICK = 1f; // Damage every second
+
+    /** What the simulation needs from whoever presents it. */
+    public interface Listener {
+        /**
+         * The player reached an item. Run collect once the pickup is confirmed;
+         * it marks the item collected and applies its effect.
+         */
+        void onItemPickup(Item item, Runnable collect);
+
+        // Called once, when the infection starts damaging the player
+        void onInfected();
+    }
+
+    private final Listener listener;
+    private final World world;
+    private final GameMap gameMap;
+    private final Player player;
+
+    // Monsters, bullets and pickups are entities; systems update them in priority order
+    private final PooledEngine engine = new PooledEngine();
+    private final BulletManager bulletManager;
+    private final InputHandler inputHandler;
+    private final AssetSetter assetSetter;
+    private final SpawnManager spawnManager;
+    private final HighgroundManager highgroundManager;
+    private final LowgroundManager lowgroundManager;
+    private final FlowField flowField;
+    private final MonsterSpawnManager monsterSpawnManager;
+    private final MonsterRegistry monsterRegistry;
+
+    private final Array<SpawnPoint> spawnPoints = new Array<>();
+    // Reused by updateItemSpawning()
+    private final Array<SpawnPoint> availablePoints = new Array<>();
+
+    private final AllocationProfiler allocationProfiler = AllocationProfiler.getInstance();
+
+    private float elapsedTime;
+    private float spawnTimer;
+    private float itemSpawnTimer;
+    private float levelUpTimer;
+    private boolean isInfected;
+    private float infectionTimer;
+
+    private static class SpawnPoint {
+        final int x, y;
+        final String type;
+        boolean isOccupied;
+
+        SpawnPoint(int x, int y, String type) {
+            this.x = x;
+            this.y = y;
+            this.type = type;
+        }
+    }
+
+    /**
+     * @param game     the running game, or null when there is no screen to switch to
+     *                 (the player then only dies, without a death screen)
+     * @param listener receives the events that need a player decision or a dialog
+     */
+    public GameSimulation(Game game, Listener listener) {
+        this.listener = listener;
+
+        world = new World(new Vector2(0, 0), true);
+        world.setContactListener(createCollisionListener());
+        gameMap = new GameMap(MAP_PATH, new CollisionBodyFactory(world, PPM));
+        TiledMap map = gameMap.getTiledMap();
+
+        player = new Player(
+            new Sprite(GameAssets.getInstance().getRegion("sprites/WalkRight1.png")),
+            PLAYER_START_X,
+            PLAYER_START_Y,
+            world,
+            game,
+            map
+        );
+
+        bulletManager = new BulletManager(player, engine);
+        inputHandler = new InputHandler(player, bulletManager);
+        assetSetter = new AssetSetter(engine);
+        spawnManager = new SpawnManager(map);
+        highgroundManager = new HighgroundManager(map);
+        lowgroundManager = new LowgroundManager(map);
+
+        flowField = new FlowField(map);
+        monsterSpawnManager = new MonsterSpawnManager(player, engine, map);
+        monsterRegistry = new MonsterRegistry(engine, monsterSpawnManager.getMonsterHash());
+        for (int i = 0; i < INITIAL_MONSTERS; i++) {
+            monsterSpawnManager.trySpawnMonster();
+        }
+        Gdx.app.log("GameSimulation", "Monster system initialized. Initial count: " + getMonsters().size());
+
+        initEntitySystems();
+        player.setMonsters(monsterRegistry);
+
+        initItems();
+        initSpawnPoints();
+    }
+
+    // Update order within a tick: AI, movement, animation, bullets, pickups
+    private void initEntitySystems() {
+        CollisionWorld collisionWorld = CollisionWorld.get(gameMap.getTiledMap());
+        engine.addSystem(new MonsterAISystem(player, flowField, collisionWorld, monsterSpawnManager.getMonsterHash()));
+        engine.addSystem(new MovementSystem());
+        engine.addSystem(new MonsterAnimationSystem());
+        engine.addSystem(new BulletSystem(collisionWorld));
+        engine.addSystem(new PickupSystem(player, gameMap.getTiledMap(), this::onPickup));
+    }
+
+    /** One fixed simulation step; the only place game state advances. */
+    public void tick(float delta) {
+        // Measured here so every driver, Play or headless, is held to the tick budget
+        allocationProfiler.beginTick();
+        elapsedTime += delta;
+        updateInfection(delta);
+
+        // Monster positions for skill hits, spawning and steering this tick; monsters
+        // only move in engine.update, so the hash stays exact until then
+        monsterSpawnManager.rebuildMonsterHash();
+
+        // Player: input -> movement -> ground level
+        allocationProfiler.begin(AllocationProfiler.Section.INPUT);
+        inputHandler.update(delta);
+        allocationProfiler.end(AllocationProfiler.Section.INPUT);
+        allocationProfiler.begin(AllocationProfiler.Section.PLAYER);
+        player.savePreviousPosition();
+        player.update(delta);
+        applyGroundHeight();
+        allocationProfiler.end(AllocationProfiler.Section.PLAYER);
+
+        // Monster spawning
+        allocationProfiler.begin(AllocationProfiler.Section.SPAWNING);
+        spawnTimer += delta;
+        if (spawnTimer >= SPAWN_INTERVAL) {
+            monsterSpawnManager.update(delta);
+            spawnTimer = 0;
+        }
+        allocationProfiler.end(AllocationProfiler.Section.SPAWNING);
+
+        // Monsters, bullets and pickups; dead monsters and spent bullets leave the engine here
+        allocationProfiler.begin(AllocationProfiler.Section.ENTITIES);
+        bulletManager.update(delta);
+        engine.update(delta);
+        allocationProfiler.end(AllocationProfiler.Section.ENTITIES);
+
+        allocationProfiler.begin(AllocationProfiler.Section.PHYSICS);
+        world.step(delta, VELOCITY_ITERATIONS, POSITION_ITERATIONS);
+        allocationProfiler.end(AllocationProfiler.Section.PHYSICS);
+
+        allocationProfiler.begin(AllocationProfiler.Section.ITEMS);
+        updateItemSpawning(delta);
+        allocationProfiler.end(AllocationProfiler.Section.ITEMS);
+
+        levelUpTimer += delta;
+        if (levelUpTimer >= LEVEL_UP_INTERVAL) {
+            Player.levelUp();
+            levelUpTimer = 0f;
+        }
+        allocationProfiler.endTick();
+    }
+
+    // Moves the player onto the high/low ground level of the tile it stands on
+    private void applyGroundHeight() {
+        Vector2 currentPos = player.getPosition();
+        Vector2 adjustedPos = highgroundManager.getStepPosition(currentPos.x, currentPos.y);
+        if (adjustedPos != null) {
+            adjustedPos = lowgroundManager.updatePosition(adjustedPos.x, adjustedPos.y);
+        } else {
+            adjustedPos = lowgroundManager.updatePosition(currentPos.x, currentPos.y);
+        }
+        player.setWorldPosition(adjustedPos.x, adjustedPos.y);
+    }
+
+    private void updateInfection(float delta) {
+        if (!isInfected && elapsedTime >= INFECTION_TIME) {
+            isInfected = true;
+            listener.onInfected();
+        }
+
+        if (isInfected) {
+            infectionTimer += delta;
+            if (infectionTimer >= INFECTION_TICK) {
+                player.takeDamage(INFECTION_DAMAGE);
+                infectionTimer = 0f;
+            }
+        }
+    }
+
+    // Called by PickupSystem when the player walks onto a visible item
+    private void onPickup(Entity entity, Item item) {
+        listener.onItemPickup(item, () -> {
+            item.setCollected(true);
+            assetSetter.objectAcquired(item);
+            applyItemEffect(item);
+        });
+    }
+
+    private void applyItemEffect(Item item) {
+        switch (item.getId()) {
+            case 1: // CalcBook
+            case 2: // AlgebraBook
+            case 3: // PhysicBook
+            case 5: // Shield and get Effect of Shield item
+                player.acquireEffect(item.getId());
+                break;
+            case 4: // HPPotion
+                player.heal(50);
+                break;
+        }
+    }
+
+    // One handler per pair of collision categories; the masks cull every other pair.
+    // Only walls and the shield's sensor have bodies, and no pair of them needs one:
+    // pickups go through PickupSystem and skill hits through the monster hash
+    private CollisionListener createCollisionListener() {
+        return new CollisionListener();
+    }
+
+    private void initItems() {
+        // Get the spawning layer from the map
+        MapLayer spawnLayer = gameMap.getTiledMap().getLayers().get("spawning_layer");
+        if (spawnLayer == null) {
+            Gdx.app.log("GameSimulation", "Warning: spawning_layer not found in map");
+            return;
+        }
+        for (MapObject object : spawnLayer.getObjects()) {
+            if (object instanceof RectangleMapObject) {
+                Rectangle rect = ((RectangleMapObject) object).getRectangle();
+                int itemId = getItemIdFromType(object.getProperties().get("type", String.class));
+                if (itemId > 0) {
+                    assetSetter.createObject((int) rect.x, (int) rect.y, itemId);
+                }
+            }
+        }
+    }
+
+    private void initSpawnPoints() {
+        MapLayer spawnLayer = gameMap.getTiledMap().getLayers().get("spawning");
+        if (spawnLayer == null) return;
+        for (MapObject object : spawnLayer.getObjects()) {
+            if (object instanceof RectangleMapObject) {
+                Rectangle rect = ((RectangleMapObject) object).getRectangle();
+                String type = object.getProperties().get("type", String.class);
+                spawnPoints.add(new SpawnPoint((int) rect.x, (int) rect.y, type));
+            }
+        }
+    }
+
+    private void updateItemSpawning(float delta) {
+        if (spawnPoints.size == 0) return;
+
+        itemSpawnTimer += delta;
+        if (itemSpawnTimer < ITEM_SPAWN_INTERVAL) return;
+        itemSpawnTimer = 0;
+
+        // Spawn an item at a random unoccupied spawn point
+        availablePoints.clear();
+        for (SpawnPoint point : spawnPoints) {
+            if (!point.isOccupied && point.type != null) {
+                availablePoints.add(point);
+            }
+        }
+        if (availablePoints.size == 0) return;
+
+        SpawnPoint selectedPoint = availablePoints.random();
+        int itemId = getItemIdFromType(selectedPoint.type);
+        if (itemId > 0) {
+            assetSetter.createObject(selectedPoint.x, selectedPoint.y, itemId);
+            selectedPoint.isOccupied = true;
+            Gdx.app.log("GameSimulation", "Spawned item type: " + selectedPoint.type +
+                " at: " + selectedPoint.x + "," + selectedPoint.y);
+        }
+    }
+
+    private int getItemIdFromType(String type) {
+        if (type == null) return 0;
+
+        switch (type.toLowerCase()) {
+            case "calcbook": return 1;
+            case "algebrabook": return 2;
+            case "physicbook": return 3;
+            case "hppotion": return 4;
+            case "shield": return 5;
+            default: return 0;
+        }
+    }
+
+    // Frees the spawn point an item was placed on
+    public void handleItemPickup(Item item) {
+        for (SpawnPoint point : spawnPoints) {
+            if (point.x == (int) item.getX() && point.y == (int) item.getY()) {
+                point.isOccupied = false;
+                break;
+            }
+        }
+    }
+
+    public Player getPlayer() {
+        return player;
+    }
+
+    public World getWorld() {
+        return world;
+    }
+
+    public GameMap getGameMap() {
+        return gameMap;
+    }
+
+    public TiledMap getTiledMap() {
+        return gameMap.getTiledMap();
+    }
+
+    public PooledEngine getEngine() {
+        return engine;
+    }
+
+    public InputHandler getInputHandler() {
+        return inputHandler;
+    }
+
+    public BulletManager getBulletManager() {
+        return bulletManager;
+    }
+
+    public ImmutableArray<Entity> getMonsters() {
+        return monsterRegistry.getAll();
+    }
+
+    public MonsterRegistry getMonsterRegistry() {
+        return monsterRegistry;
+    }
+
+    // Simulated seconds so far
+    public float getElapsedTime() {
+        return elapsedTime;
+    }
+
+    @Override
+    public void dispose() {
+        // Entities only reference shared animations and GameAssets textures
+        assetSetter.dispose();
+        player.dispose();
+        engine.removeAllEntities();
+        world.dispose();
+        gameMap.dispose();
+    }
+}
@@ -0,0 +1,71 @@
+package io.github.HustSavior.skills;
+
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.FixtureDef;
+import com.badlogic.gdx.physics.box2d.PolygonShape;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.Disposable;
+
+import io.github.HustSavior.collision.CollisionCategory;
+
+/**
+ * A Box2D sensor box that a skill carries around, for shields and auras that act
+ * on whatever touches an area around the player. The body is created once and
+ * is kinematic: following the player is a transform update, and switching it off
+ * only takes it out of the broadphase until it is switched on again.
+ */
+public class AttachedSensor implements Disposable {
+    private final World world;
+    private final Body body;
+    private final float ppm;
+
+    /**
+     * @param width    pixels
+     * @param height   pixels
+     * @param category one of {@link CollisionCategory}, decides what the sensor reports
+     * @param userData set on the fixture, for the contact listener
+     */
+    public AttachedSensor(World world, float width, float height, float ppm, short category, Object userData) {
+        this.world = world;
+        this.ppm = ppm;
+
+        BodyDef bodyDef = new BodyDef();
+        bodyDef.type = BodyDef.BodyType.KinematicBody;
+        bodyDef.active = false;
+        body = world.createBody(bodyDef);
+
+        PolygonShape shape = new PolygonShape();
+        shape.setAsBox(width / 2 / ppm, height / 2 / ppm);
+        FixtureDef fixtureDef = new FixtureDef();
+        fixtureDef.shape = shape;
+        fixtureDef.isSensor = true;
+        body.createFixture(CollisionCategory.apply(fixtureDef, category)).setUserData(userData);
+        shape.dispose();
+    }
+
+    // Centre in pixels; not during world.step
+    public void setPosition(float x, float y) {
+        body.setTransform(x / ppm, y / ppm, 0);
+    }
+
+    // Not during world.step
+    public void setActive(boolean active) {
+        if (body.isActive() != active) {
+            body.setActive(active);
+        }
+    }
+
+    public boolean isActive() {
+        return body.isActive();
+    }
+
+    public Body getBody() {
+        return body;
+    }
+
+    @Override
+    public void dispose() {
+        world.destroyBody(body);
+    }
+}
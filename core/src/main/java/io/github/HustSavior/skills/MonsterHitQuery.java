@@ -0,0 +1,60 @@
+package io.github.HustSavior.skills;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+
+import io.github.HustSavior.ecs.MonsterRegistry;
+import io.github.HustSavior.ecs.MonsterTypes;
+import io.github.HustSavior.ecs.Monsters;
+import io.github.HustSavior.utils.GameConfig;
+
+/**
+ * Finds the monsters a skill hitbox touches, each one at most once per cast.
+ * Candidates come from the registry's radius lookup, so a query only looks at
+ * monsters near the hitbox however many are alive. Monsters already hit carry
+ * the cast's stamp, which replaces a list of hit monsters.
+ */
+public class MonsterHitQuery {
+    private final MonsterRegistry monsters;
+    private final IntArray candidates = new IntArray();
+    private final Rectangle monsterBounds = new Rectangle();
+    private int cast;
+
+    public MonsterHitQuery(MonsterRegistry monsters) {
+        this.monsters = monsters;
+    }
+
+    // Monsters hit by earlier casts can be hit again
+    public void beginCast() {
+        cast = Monsters.newHitStamp();
+    }
+
+    /**
+     * Appends to out the monsters whose hitbox overlaps bounds (world units) and
+     * that this cast has not hit yet, and marks them as hit.
+     *
+     * @return the number of monsters added
+     */
+    public int query(Rectangle bounds, Array<Entity> out) {
+        // Lookups go by monster centre in pixels: search the circle around the
+        // hitbox, widened by the largest monster, then test the actual hitboxes
+        float halfWidth = bounds.width * GameConfig.PPM / 2;
+        float halfHeight = bounds.height * GameConfig.PPM / 2;
+        float radius = (float) Math.sqrt(halfWidth * halfWidth + halfHeight * halfHeight)
+            + MonsterTypes.getInstance().getMaxRadius();
+
+        candidates.clear();
+        monsters.queryRadius(bounds.x * GameConfig.PPM + halfWidth, bounds.y * GameConfig.PPM + halfHeight, radius, candidates);
+        int found = 0;
+        for (int i = 0; i < candidates.size; i++) {
+            Entity monster = monsters.getAlive(candidates.get(i));
+            if (Monsters.getBounds(monster, monsterBounds).overlaps(bounds) && Monsters.markHit(monster, cast)) {
+                out.add(monster);
+                found++;
+            }
+        }
+        return found;
+    }
+}
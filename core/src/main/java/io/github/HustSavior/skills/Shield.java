@@ -2,12 +2,15 @@ package io.github.HustSavior.skills;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.physics.box2d.*;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.World;
+import io.github.HustSavior.assets.GameAssets;
+import io.github.HustSavior.collision.CollisionCategory;
+import io.github.HustSavior.ecs.MonsterRegistry;
 import io.github.HustSavior.entities.Player;
 import io.github.HustSavior.utils.GameConfig;
 
@@ -26,8 +29,8 @@ public class Shield extends Sprite implements Skills{
     private float shieldStateTime;
     private TextureRegion[] shieldFrames;
 
-    private World world;
-    public Body hitbox;
+    // Null without a physics world
+    private final AttachedSensor sensor;
 
     Player player;
 
@@ -35,7 +38,9 @@ public class Shield extends Sprite implements Skills{
         super(sprite);
         this.cd=new CooldownController(DEFAULT_COOLDOWN);
         this.player=player;
-        this.world=world;
+        this.sensor = world != null
+            ? new AttachedSensor(world, getRegionWidth(), getRegionHeight(), player.getPPM(), CollisionCategory.PLAYER_SKILL, this)
+            : null;
 
         shieldActive=true;
         shieldAnimation=createAnimation();
@@ -49,8 +54,7 @@ public class Shield extends Sprite implements Skills{
         // Load all shield frames into array
         shieldFrames = new TextureRegion[4];
         for (int i = 0; i < 4; i++) {
-            Texture texture = new Texture(Gdx.files.internal("item/shield_effects/shield_effect_" + (i + 1) + ".png"));
-            shieldFrames[i] = new TextureRegion(texture);
+            shieldFrames[i] = GameAssets.getInstance().getRegion("item/shield_effects/shield_effect_" + (i + 1) + ".png");
             Gdx.app.log("Shield", "Loaded shield frame " + (i + 1));
         }
         Animation<TextureRegion> animation = new Animation<TextureRegion>(SHIELD_ANIMATION_FRAME_DURATION, shieldFrames);
@@ -83,7 +87,6 @@ public class Shield extends Sprite implements Skills{
     public void update(float delta){
 
         if(shieldActive){
-            hitbox=createHitbox((int)getX(), (int)getY(), player.getPPM(), world);
             shieldTimeRemaining -= delta;
 
             if (shieldTimeRemaining <= 0) {
@@ -101,25 +104,14 @@ public class Shield extends Sprite implements Skills{
             }
         }
 
-    }
-
-    public Body createHitbox(int x, int y, float PPM, World world){
-        BodyDef bodyDef = new BodyDef();
-        bodyDef.type = BodyDef.BodyType.DynamicBody;
-        bodyDef.position.set((x+getRegionWidth()/2f)/PPM, (y+getRegionHeight()/2f)/PPM);
-
-        Body ItemBody = world.createBody(bodyDef);
-        PolygonShape shape=new PolygonShape();
-        shape.setAsBox(getRegionWidth()/2.0f/PPM, getRegionHeight()/2.0f/PPM);
-
-        FixtureDef fixtureDef= new FixtureDef();
-        fixtureDef.shape=shape;
-        fixtureDef.isSensor=true;
-
-        ItemBody.createFixture(fixtureDef).setUserData(this);
-        shape.dispose();
-
-        return ItemBody;
+        // One persistent body that follows the player while the shield is up
+        if (sensor != null) {
+            if (shieldActive) {
+                Vector2 position = player.getPosition();
+                sensor.setPosition(position.x, position.y);
+            }
+            sensor.setActive(shieldActive);
+        }
     }
 
     public boolean isReady(){return cd.isReady();}
@@ -128,4 +120,15 @@ public class Shield extends Sprite implements Skills{
 
     public void setImprovedSize(float scale){
     }
+
+    // The shield only blocks damage to the player, monsters do not matter to it
+    public void setMonsters(MonsterRegistry monsters){
+    }
+
+    @Override
+    public void dispose() {
+        if (sensor != null) {
+            sensor.dispose();
+        }
+    }
 }
@@ -1,20 +1,16 @@
 package io.github.HustSavior.skills;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.physics.box2d.World;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
-import com.badlogic.gdx.utils.Array;
 
+import io.github.HustSavior.assets.GameAssets;
+import io.github.HustSavior.ecs.MonsterRegistry;
 import io.github.HustSavior.entities.Player;
-import io.github.HustSavior.entities.AbstractMonster;
-import io.github.HustSavior.Play;
 
 import java.util.ArrayList;
 
-import io.github.HustSavior.entities.AbstractMonster;
-
 public class SkillManager {
     private final static int MELEE=1;
     //private final static int RANGED=2;
@@ -22,43 +18,42 @@ public class SkillManager {
     Player player;
     private World world;
     ArrayList<Skills> skillList;
-    private Array<AbstractMonster> monsters;
+    private MonsterRegistry monsters;
     public SkillManager(Player player, World world){
         this.player=player;
         this.world=world;
-        this.monsters = new Array<>();
         skillList= new ArrayList<Skills>();
     }
 
-    public SkillManager(Player player, Array<AbstractMonster> monsters) {
-        this.player = player;
-        this.monsters = monsters;
-        skillList = new ArrayList<Skills>();
-    }
-
+    // A skill is created once; activating it again, e.g. a second shield pickup, keeps the one there is
     public void activateSkills(int id){
+        Skills skill;
         if (id==MELEE){
-            skillList.add(new Slash(new Sprite(new Texture("skills/Slash1.png")), player, monsters));
+            if (findSkill(Slash.class) != null) return;
+            skill = new Slash(new Sprite(GameAssets.getInstance().getRegion("skills/Slash1.png")), player);
         }
         else if(id==SHIELD){
-            skillList.add(new Shield(new Sprite(new Texture("item/shield.png")), player, world));
+            if (findSkill(Shield.class) != null) return;
+            skill = new Shield(new Sprite(GameAssets.getInstance().getRegion("item/shield.png")), player, world);
             System.out.println("activate");
         }
+        else {
+            return;
+        }
+        if (monsters != null) {
+            skill.setMonsters(monsters);
+        }
+        skillList.add(skill);
     }
 
-    public void update(float delta){
-        // Update monsters reference from Play screen
-        Play playScreen = (Play)player.getScreen();
-        if (playScreen != null) {
-            this.monsters = playScreen.getMonsters();
-            // Update monsters reference in all skills
-            for (Skills skill : skillList) {
-                if (skill instanceof Slash) {
-                    ((Slash) skill).updateMonsters(monsters);
-                }
-            }
+    private Skills findSkill(Class<? extends Skills> type) {
+        for (Skills skill : skillList) {
+            if (type.isInstance(skill)) return skill;
         }
+        return null;
+    }
 
+    public void update(float delta){
         // Update skills
         for (Skills skill : skillList) {
             skill.update(delta);
@@ -97,7 +92,19 @@ public class SkillManager {
         }
     }
 
-    public void setMonsters(Array<AbstractMonster> monsters) {
+    // Skills subscribe to the registry once; from then on they hear about spawns and despawns
+    public void setMonsters(MonsterRegistry monsters) {
         this.monsters = monsters;
+        for (Skills skill : skillList) {
+            skill.setMonsters(monsters);
+        }
+    }
+
+    // Before the world is disposed, which owns the shield's sensor
+    public void dispose() {
+        for (Skills skill : skillList) {
+            skill.dispose();
+        }
+        skillList.clear();
     }
 }
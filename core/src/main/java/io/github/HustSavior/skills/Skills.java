@@ -2,8 +2,12 @@ package io.github.HustSavior.skills;
 
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Disposable;
 
-public interface Skills {
+import io.github.HustSavior.ecs.MonsterRegistry;
+
+// Disposed by SkillManager: skills hold registry subscriptions and Box2D bodies
+public interface Skills extends Disposable {
 
     Animation<TextureRegion> createAnimation();
 
@@ -15,4 +19,7 @@ public interface Skills {
 
     void setImprovedSize(float scale);
 
+    // Called once, when the skill is activated or the simulation's monsters become known
+    void setMonsters(MonsterRegistry monsters);
+
 }
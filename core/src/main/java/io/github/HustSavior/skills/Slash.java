@@ -1,8 +1,8 @@
 package io.github.HustSavior.skills;
 
+import com.badlogic.ashley.core.Entity;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.audio.Sound;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
@@ -11,11 +11,16 @@ import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
 
-import io.github.HustSavior.entities.AbstractMonster;
+import io.github.HustSavior.assets.GameAssets;
+import io.github.HustSavior.ecs.Mappers;
+import io.github.HustSavior.ecs.MonsterRegistry;
+import io.github.HustSavior.ecs.Monsters;
+import io.github.HustSavior.ecs.components.TransformComponent;
 import io.github.HustSavior.entities.Player;
 import io.github.HustSavior.utils.GameConfig;
+import io.github.HustSavior.utils.log.GameLog;
 
-public class Slash extends Sprite implements Skills{
+public class Slash extends Sprite implements Skills, MonsterRegistry.Listener {
 
     TextureRegion[] animation;
     Animation<TextureRegion> cast;
@@ -28,8 +33,9 @@ public class Slash extends Sprite implements Skills{
     private Player player;
 
     private final static float SLASH_DAMAGE = 50.0f;
-    private Rectangle slashBounds;
-    private Array<AbstractMonster> hitMonsters = new Array<>();
+    private final Rectangle slashBounds = new Rectangle(); // World units, fixed for the whole cast
+    private boolean slashActive;
+    private final Array<Entity> hits = new Array<>();
 
     private Sound slashSound;
     private boolean isSoundLoaded = false;
@@ -37,23 +43,16 @@ public class Slash extends Sprite implements Skills{
     private float castingX;
     private float castingY;
 
-    private Array<AbstractMonster> monsters;
+    private MonsterRegistry monsters;
+    private MonsterHitQuery hitQuery;
+    private int monsterCount; // Kept by the registry callbacks
 
-    public Slash(Sprite sprite, Player player, Array<AbstractMonster> monsters) {
+    public Slash(Sprite sprite, Player player) {
         super(sprite);
         this.cd = new CooldownController(DEFAULT_COOLDOWN);
         this.player = player;
-        this.monsters = monsters;
         cd.resetCooldown();
 
-        // Verify monsters array is not null and print initial size
-        if (monsters != null) {
-            System.out.println("Slash initialized with " + monsters.size + " monsters");
-        } else {
-            System.out.println("Warning: monsters array is null!");
-            this.monsters = new Array<>();  // Create empty array to prevent null pointer
-        }
-
         setOriginCenter();
 
         cast = createAnimation();
@@ -61,7 +60,7 @@ public class Slash extends Sprite implements Skills{
 
         // Initialize sound
         try {
-            slashSound = Gdx.audio.newSound(Gdx.files.internal("sound/slash_sound_effect.mp3"));
+            slashSound = GameAssets.getInstance().getSound("sound/slash_sound_effect.mp3");
             isSoundLoaded = true;
         } catch (Exception e) {
             Gdx.app.error("Slash", "Error loading slash sound", e);
@@ -71,10 +70,10 @@ public class Slash extends Sprite implements Skills{
     @Override
     public Animation<TextureRegion> createAnimation(){
         animation = new TextureRegion[3];
-        Texture slashTexture = new Texture("skills/Slash1.png");
-        animation[0] = new TextureRegion(slashTexture);
-        animation[1] = new TextureRegion(new Texture("skills/Slash2.png"));
-        animation[2] = new TextureRegion(new Texture("skills/Slash3.png"));
+        GameAssets assets = GameAssets.getInstance();
+        animation[0] = new TextureRegion(assets.getRegion("skills/Slash1.png"));
+        animation[1] = new TextureRegion(assets.getRegion("skills/Slash2.png"));
+        animation[2] = new TextureRegion(assets.getRegion("skills/Slash3.png"));
 
         // Slower animation and no looping
         Animation<TextureRegion> anim = new Animation<>(0.15f, animation);
@@ -100,69 +99,59 @@ public class Slash extends Sprite implements Skills{
         }
 
         if (stateTime == 0) {  // Start of animation
-            System.out.println("Starting animation");
-            hitMonsters.clear();
+            if (GameLog.DEBUG) GameLog.debug("Slash", "Cast started");
+            if (hitQuery != null) {
+                hitQuery.beginCast();
+            }
             if (isSoundLoaded) {
                 slashSound.play(1.0f);
             }
             
-            // Debug hitbox creation
-            float hitboxWidth = getRegionWidth() * 2.5f / GameConfig.PPM;
-            float hitboxHeight = getRegionHeight() * 2.0f / GameConfig.PPM;
+            // Hitbox in pixels in front of the player; grows with setImprovedSize
+            float hitboxWidth = getWidth() * 2.5f;
+            float hitboxHeight = getHeight() * 2.0f;
+            Vector2 playerPosition = player.getPosition();
             
             if (player.isFacingLeft()) {
-                castingX = player.getPosition().x - hitboxWidth;
+                castingX = playerPosition.x - player.getWidth() / 2 - hitboxWidth;
             } else {
-                castingX = player.getPosition().x + player.getWidth() / GameConfig.PPM;
+                castingX = playerPosition.x + player.getWidth() / 2;
             }
-            castingY = player.getPosition().y;
+            castingY = playerPosition.y;
             
-            slashBounds = new Rectangle(
-                castingX,
-                castingY - hitboxHeight/2,
-                hitboxWidth,
-                hitboxHeight
+            // Converted to world units once per cast rather than every frame
+            slashBounds.set(
+                castingX / GameConfig.PPM,
+                (castingY - hitboxHeight/2) / GameConfig.PPM,
+                hitboxWidth / GameConfig.PPM,
+                hitboxHeight / GameConfig.PPM
             );
-            
-            // Debug print for slash hitbox
-            
+            slashActive = true;
         }
 
         stateTime += delta;
         
         // Check for hits during active frames
-        if (stateTime < getAnimationTime && slashBounds != null) {
-            // Convert slashBounds to world units
-            Rectangle worldSlashBounds = new Rectangle(
-                slashBounds.x / GameConfig.PPM,
-                slashBounds.y / GameConfig.PPM,
-                slashBounds.width / GameConfig.PPM,
-                slashBounds.height / GameConfig.PPM
-            );
-
-          //  System.out.println("Number of monsters: " + monsters.size);
-         //   System.out.println("Slash bounds (world units): x=" + worldSlashBounds.x + ", y=" + worldSlashBounds.y + ", width=" + worldSlashBounds.width + ", height=" + worldSlashBounds.height);
-            for (AbstractMonster monster : monsters) {
-                Rectangle monsterBounds = monster.getBounds();
-             //   System.out.println("Monster bounds: x=" + monsterBounds.x + ", y=" + monsterBounds.y + ", width=" + monsterBounds.width + ", height=" + monsterBounds.height);
-                
-                if (!hitMonsters.contains(monster, true) && monsterBounds.overlaps(worldSlashBounds)) {
-                    System.out.println("Hit detected!");
-                    monster.takeDamage(SLASH_DAMAGE);
-                    hitMonsters.add(monster);
-                    
-                    Vector2 knockbackDir = new Vector2(
-                        monster.getPosition().x - player.getPosition().x,
-                        monster.getPosition().y - player.getPosition().y
-                    ).nor();
-                    monster.handlePush(knockbackDir.scl(5f));
-                }
+        if (stateTime < getAnimationTime && slashActive && monsterCount > 0) {
+            hits.clear();
+            hitQuery.query(slashBounds, hits);
+            Vector2 playerPosition = player.getPosition();
+            for (int i = 0; i < hits.size; i++) {
+                Entity monster = hits.get(i);
+                Monsters.takeDamage(monster, SLASH_DAMAGE);
+
+                TransformComponent transform = Mappers.TRANSFORM.get(monster);
+                float knockbackX = transform.x - playerPosition.x;
+                float knockbackY = transform.y - playerPosition.y;
+                float length = (float) Math.sqrt(knockbackX * knockbackX + knockbackY * knockbackY);
+                float scale = length != 0 ? 5f / length : 0;
+                Monsters.push(monster, knockbackX * scale, knockbackY * scale);
             }
         }
 
         if (stateTime >= getAnimationTime) {
             stateTime = 0;
-            slashBounds = null;
+            slashActive = false;
             cd.resetCooldown();
         }
     }
@@ -176,9 +165,10 @@ public class Slash extends Sprite implements Skills{
     }
 
 
+    @Override
     public void dispose() {
-        if (isSoundLoaded) {
-            slashSound.dispose();
+        if (monsters != null) {
+            monsters.removeListener(this);
         }
 
     }
@@ -219,9 +209,24 @@ public class Slash extends Sprite implements Skills{
         batch.draw(currentFrame, castingX, castingY, slashWidth, slashHeight);
     }
 
-    // Add method to update monsters reference if needed
-    public void updateMonsters(Array<AbstractMonster> newMonsters) {
-        this.monsters = newMonsters;
-        System.out.println("Updated monsters array, new size: " + monsters.size);
+    @Override
+    public void setMonsters(MonsterRegistry monsters) {
+        if (this.monsters != null) {
+            this.monsters.removeListener(this);
+        }
+        this.monsters = monsters;
+        hitQuery = new MonsterHitQuery(monsters);
+        monsterCount = monsters.getAll().size();
+        monsters.addListener(this);
+    }
+
+    @Override
+    public void onMonsterSpawned(Entity monster) {
+        monsterCount++;
+    }
+
+    @Override
+    public void onMonsterDespawned(Entity monster) {
+        monsterCount--;
     }
 }
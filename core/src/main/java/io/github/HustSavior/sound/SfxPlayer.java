@@ -4,6 +4,8 @@ import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.Gdx;
 import java.util.HashMap;
 
+import io.github.HustSavior.assets.GameAssets;
+
 public class SfxPlayer {
     private static SfxPlayer instance;
     private HashMap<String, Sound> soundCache;
@@ -31,7 +33,7 @@ public class SfxPlayer {
     private Sound getSound(String soundPath) {
         if (!soundCache.containsKey(soundPath)) {
             try {
-                Sound sound = Gdx.audio.newSound(Gdx.files.internal(soundPath));
+                Sound sound = GameAssets.getInstance().getSound(soundPath);
                 soundCache.put(soundPath, sound);
             } catch (Exception e) {
                 Gdx.app.error("SfxPlayer", "Error loading sound: " + soundPath, e);
@@ -47,9 +49,7 @@ public class SfxPlayer {
     }
     
     public void dispose() {
-        for (Sound sound : soundCache.values()) {
-            sound.dispose();
-        }
+        // The sounds belong to GameAssets
         soundCache.clear();
     }
 } 
\ No newline at end of file
@@ -9,36 +9,25 @@ import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
 
+import io.github.HustSavior.collision.CollisionWorld;
 import io.github.HustSavior.items.Item;
 
 
 public class SpawnManager {
     private TiledMap map;
-    private Array<Rectangle> collisionAreas;
+    private final CollisionWorld collisionWorld;
+    private final Rectangle itemBounds = new Rectangle();
     private Array<BoundedSpawnArea> boundedSpawnAreas;
     private Array<Item> managedItems;
 
     public SpawnManager(TiledMap map) {
         this.map = map;
-        this.collisionAreas = new Array<>();
+        this.collisionWorld = CollisionWorld.get(map);
         this.boundedSpawnAreas = new Array<>();
         this.managedItems = new Array<>();
-        loadCollisionAreas();
         loadBoundedAreas();
     }
 
-    private void loadCollisionAreas() {
-        MapLayer collisionLayer = map.getLayers().get("collisions");
-        if (collisionLayer != null) {
-            for (MapObject object : collisionLayer.getObjects()) {
-                if (object instanceof RectangleMapObject) {
-                    Rectangle rect = ((RectangleMapObject) object).getRectangle();
-                    collisionAreas.add(rect);
-                }
-            }
-        }
-    }
-
     private void loadBoundedAreas() {
         // Load each building's bounds layer separately
         String[] boundLayers = {
@@ -97,16 +86,10 @@ public class SpawnManager {
     }
 
     private boolean isValidSpawnPosition(Vector2 position, float width, float height) {
-        Rectangle itemBounds = new Rectangle(position.x, position.y, width, height);
+        itemBounds.set(position.x, position.y, width, height);
 
         // Check collision areas
-        for (Rectangle collision : collisionAreas) {
-            if (collision.overlaps(itemBounds)) {
-                return false;
-            }
-        }
-
-        return true;
+        return !collisionWorld.overlapsPixels(itemBounds);
     }
 
     public void registerItem(Item item) {
@@ -1,7 +1,9 @@
 package io.github.HustSavior.spawner;
 
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.PooledEngine;
+import com.badlogic.ashley.utils.ImmutableArray;
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Camera;
 import com.badlogic.gdx.maps.MapLayer;
 import com.badlogic.gdx.maps.MapObject;
 import com.badlogic.gdx.maps.objects.RectangleMapObject;
@@ -11,47 +13,75 @@ import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
 
-import io.github.HustSavior.entities.AbstractMonster;
-import io.github.HustSavior.entities.FlyingEye;
-import io.github.HustSavior.entities.Goblin;
-import io.github.HustSavior.entities.Mushroom;
+import io.github.HustSavior.collision.SpatialHash;
+import io.github.HustSavior.ecs.Families;
+import io.github.HustSavior.ecs.Mappers;
+import io.github.HustSavior.ecs.MonsterType;
+import io.github.HustSavior.ecs.MonsterTypes;
+import io.github.HustSavior.ecs.components.MonsterComponent;
+import io.github.HustSavior.ecs.components.TransformComponent;
+import io.github.HustSavior.ecs.components.VelocityComponent;
+import io.github.HustSavior.ecs.systems.MonsterAISystem;
+import io.github.HustSavior.entities.MonsterAnimationRegistry;
 import io.github.HustSavior.entities.Player;
-import io.github.HustSavior.entities.Skeleton;
-
-import static io.github.HustSavior.utils.GameConfig.PPM;
+import io.github.HustSavior.utils.log.GameLog;
 
 public class MonsterSpawnManager {
     private final Player player;
-    private final Array<AbstractMonster> monsters;
-    private final Camera camera;
+    private final PooledEngine engine;
+    private final ImmutableArray<Entity> monsters;
     private final Array<Rectangle> spawnAreas = new Array<>();
     private static final int MAX_MONSTERS = 50;
     private static final float MIN_SPAWN_DISTANCE = 2000f;
     private static final float MAX_SPAWN_DISTANCE = 5000f;
+    private static final float MONSTER_SIZE = 32f; // Pixels; spawn spots closer than this to a monster are taken
+
+    // Monster positions of the current tick, for neighbour queries
+    private final SpatialHash<Entity> monsterHash;
+    private int nextMonsterId = 1;
 
-    public MonsterSpawnManager(Player player, Array<AbstractMonster> monsters, Camera camera, TiledMap map) {
+    // Monsters are entities of the engine; the engine pools both entities and components
+    public MonsterSpawnManager(Player player, PooledEngine engine, TiledMap map) {
         this.player = player;
-        this.monsters = monsters;
-        this.camera = camera;
+        this.engine = engine;
+        this.monsters = engine.getEntitiesFor(Families.MONSTERS);
+        this.monsterHash = new SpatialHash<>(0, 0,
+            map.getProperties().get("width", Integer.class) * map.getProperties().get("tilewidth", Integer.class),
+            map.getProperties().get("height", Integer.class) * map.getProperties().get("tileheight", Integer.class),
+            MonsterAISystem.getNeighbourCellSize(), MAX_MONSTERS);
         loadSpawnAreas(map);
     }
 
+    public SpatialHash<Entity> getMonsterHash() {
+        return monsterHash;
+    }
+
+    // Refills the neighbour hash from the current monster positions; called once per tick before monsters move
+    public void rebuildMonsterHash() {
+        monsterHash.clear();
+        for (int i = 0; i < monsters.size(); i++) {
+            Entity monster = monsters.get(i);
+            if (!Mappers.MONSTER.get(monster).isAlive()) continue;
+            TransformComponent transform = Mappers.TRANSFORM.get(monster);
+            monsterHash.insert(monster, transform.x, transform.y);
+        }
+    }
+
     public void update(float delta) {
         // Only keep this if you need periodic spawning
-        if (monsters.size < MAX_MONSTERS) {
+        if (monsters.size() < MAX_MONSTERS) {
             trySpawnMonster();
         }
     }
 
     public void trySpawnMonster() {
-        System.out.println("Attempting to spawn monster...");
-        if (monsters.size >= MAX_MONSTERS) {
-            System.out.println("Max monsters reached: " + monsters.size);
+        if (monsters.size() >= MAX_MONSTERS) {
+            if (GameLog.DEBUG) GameLog.debug("Spawn", "Max monsters reached: " + monsters.size());
             return;
         }
         
+        // loadSpawnAreas has already reported the missing layer
         if (spawnAreas.isEmpty()) {
-            System.out.println("No spawn areas available!");
             return;
         }
         
@@ -62,33 +92,43 @@ public class MonsterSpawnManager {
        
         
         if (!isValidSpawnPosition(x, y)) {
-            Gdx.app.debug("Spawn", "Invalid spawn position");
+            if (GameLog.DEBUG) GameLog.debug("Spawn", "Invalid spawn position");
             return;
         }
         
         if (!isPositionClear(x, y)) {
-            Gdx.app.debug("Spawn", "Position not clear");
+            if (GameLog.DEBUG) GameLog.debug("Spawn", "Position not clear");
             return;
         }
         
-        AbstractMonster monster = createMonster(x, y);
-        if (monster != null) {
-            monsters.add(monster);
-         
-        } else {
-            Gdx.app.error("Spawn", "Failed to create monster");
-        }
+        Entity monster = createMonster(x, y);
+        monsterHash.insert(monster, x, y); // Visible to the next spawn check in this tick
     }
 
-    public AbstractMonster createMonster(float x, float y) {
-        int type = MathUtils.random(3);
-        switch (type) {
-            case 0: return new Skeleton(x, y, player);
-            case 1: return new FlyingEye(x, y, player);
-            case 2: return new Mushroom(x, y, player);
-            case 3: return new Goblin(x, y, player);
-            default: return new Skeleton(x, y, player);
-        }
+    // Adds a monster of a random type at a pixel position
+    public Entity createMonster(float x, float y) {
+        return createMonster(MonsterTypes.getInstance().random(), x, y);
+    }
+
+    public Entity createMonster(MonsterType type, float x, float y) {
+        Entity entity = engine.createEntity();
+
+        TransformComponent transform = engine.createComponent(TransformComponent.class);
+        transform.setPosition(x, y);
+        transform.width = type.width;
+        transform.height = type.height;
+        entity.add(transform);
+        entity.add(engine.createComponent(VelocityComponent.class));
+
+        MonsterComponent monster = engine.createComponent(MonsterComponent.class);
+        monster.id = nextMonsterId++;
+        monster.type = type;
+        monster.animations = MonsterAnimationRegistry.getInstance().get(type);
+        monster.hp = type.hp;
+        entity.add(monster);
+
+        engine.addEntity(entity);
+        return entity;
     }
 
     private void loadSpawnAreas(TiledMap map) {
@@ -133,17 +173,7 @@ public class MonsterSpawnManager {
     }
 
     private boolean isPositionClear(float x, float y) {
-        Rectangle newMonsterRect = new Rectangle(x - 16, y - 16, 32, 32);
-        
-        for (AbstractMonster monster : monsters) {
-            Vector2 pos = monster.getPosition();
-            Rectangle monsterRect = new Rectangle(pos.x - 16, pos.y - 16, 32, 32);
-            if (monsterRect.overlaps(newMonsterRect)) {
-                return false;
-            }
-        }
-        
-        return true;
+        return !monsterHash.any(x, y, MONSTER_SIZE);
     }
 
     public Vector2 getRandomSpawnPoint() {
@@ -0,0 +1,58 @@
+package io.github.HustSavior.ui;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.badlogic.gdx.scenes.scene2d.ui.Label;
+import com.badlogic.gdx.scenes.scene2d.ui.Table;
+import com.badlogic.gdx.utils.Align;
+
+import io.github.HustSavior.utils.AllocationProfiler;
+import io.github.HustSavior.utils.AllocationProfiler.Section;
+
+// Debug overlay with the per-section allocations of the last frame, only shown while profiling
+public class AllocationOverlay {
+    private static final float REFRESH_INTERVAL = 0.5f;
+
+    private final AllocationProfiler profiler;
+    private final Label label;
+    private final StringBuilder text = new StringBuilder();
+    private float refreshTimer = 0;
+
+    public AllocationOverlay(Stage stage, AllocationProfiler profiler) {
+        this.profiler = profiler;
+
+        Label.LabelStyle labelStyle = new Label.LabelStyle();
+        labelStyle.font = new BitmapFont();
+        labelStyle.fontColor = Color.YELLOW;
+        label = new Label("", labelStyle);
+
+        Table table = new Table();
+        table.setFillParent(true);
+        table.align(Align.bottomLeft);
+        table.pad(20);
+        table.add(label);
+
+        stage.addActor(table);
+    }
+
+    public void update(float delta) {
+        refreshTimer += delta;
+        if (refreshTimer < REFRESH_INTERVAL) return;
+        refreshTimer = 0;
+
+        text.setLength(0);
+        text.append("Allocated last frame: ").append(profiler.getLastFrameTotal()).append(" B\n");
+        for (Section section : Section.values()) {
+            text.append(section).append(": ").append(profiler.getLastFrameBytes(section)).append(" B\n");
+        }
+        text.append("Last tick: ").append(profiler.getLastTickBytes())
+            .append(" B, peak: ").append(profiler.getPeakTickBytes())
+            .append(" B, over budget: ").append(profiler.getTicksOverBudget());
+        label.setText(text);
+    }
+
+    public void dispose() {
+        label.getStyle().font.dispose();
+    }
+}
@@ -8,6 +8,7 @@ import com.badlogic.gdx.utils.Align;
 
 public class GameTimer {
     private float totalTime;
+    private int shownSeconds = -1;
     private final Label timerLabel;
     private final Table table;
     
@@ -41,6 +42,9 @@ public class GameTimer {
     }
     
     private void updateTimerDisplay() {
+        // Only rebuild the text when the shown second changes
+        if ((int) totalTime == shownSeconds) return;
+        shownSeconds = (int) totalTime;
         int minutes = (int) (totalTime / 60);
         int seconds = (int) (totalTime % 60);
         timerLabel.setText(String.format("%02d:%02d", minutes, seconds));
@@ -1,13 +1,13 @@
 package io.github.HustSavior.ui;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Button;
 import com.badlogic.gdx.scenes.scene2d.ui.Image;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
-import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
+
+import io.github.HustSavior.assets.GameAssets;
 
 public class InventoryTray {
     private final Table container;
@@ -43,16 +43,15 @@ public class InventoryTray {
             return; // Inventory is full
         }
         
-        Texture texture = new Texture(imagePath);
-        TextureRegion region = new TextureRegion(texture);
+        TextureRegion region = GameAssets.getInstance().getRegion(imagePath);
         Image itemImage = new Image(region);
         
         // Scale the image to fit the slot while maintaining aspect ratio
         float scale = Math.min(
-            (SLOT_SIZE - PADDING * 2) / texture.getWidth(),
-            (SLOT_SIZE - PADDING * 2) / texture.getHeight()
+            (SLOT_SIZE - PADDING * 2) / region.getRegionWidth(),
+            (SLOT_SIZE - PADDING * 2) / region.getRegionHeight()
         );
-        itemImage.setSize(texture.getWidth() * scale, texture.getHeight() * scale);
+        itemImage.setSize(region.getRegionWidth() * scale, region.getRegionHeight() * scale);
         
         // Clear the button and add the new item
         slots[currentSlot].clear();
@@ -62,13 +61,6 @@ public class InventoryTray {
     }
     
     public void dispose() {
-        for (Button slot : slots) {
-            if (slot.hasChildren()) {
-                Image image = (Image) slot.getChildren().first();
-                if (image.getDrawable() instanceof TextureRegionDrawable) {
-                    ((TextureRegionDrawable) image.getDrawable()).getRegion().getTexture().dispose();
-                }
-            }
-        }
+        // The item textures belong to GameAssets
     }
 } 
@@ -8,13 +8,14 @@ import com.badlogic.gdx.scenes.scene2d.ui.Button;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
 
+import io.github.HustSavior.assets.GameAssets;
 import io.github.HustSavior.screen.MainMenuScreen;
 
 public class MainMenuButton extends Button {
     protected Game game;
 
     public MainMenuButton(Game game) {
-        super(new Skin(Gdx.files.internal("UI/mainMenu/mainMenuButton.json")));
+        super(GameAssets.getInstance().getSkin("UI/mainMenu/mainMenuButton.json"));
         this.game = game;
         
         // Reduced scale factor
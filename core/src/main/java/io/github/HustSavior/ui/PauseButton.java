@@ -7,7 +7,7 @@ import com.badlogic.gdx.scenes.scene2d.ui.Button;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener;
 import com.badlogic.gdx.Game;
-import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import io.github.HustSavior.assets.GameAssets;
 import io.github.HustSavior.screen.MainMenuScreen;
 import com.badlogic.gdx.graphics.g2d.Batch;
 import io.github.HustSavior.Play;
@@ -25,7 +25,7 @@ public class PauseButton extends Button {
     private final Play playScreen;
 
     public PauseButton(Stage stage, Game game, Play playScreen) {
-        super(new Skin(Gdx.files.internal("UI/pause/pauseButton.json")));
+        super(GameAssets.getInstance().getSkin("UI/pause/pauseButton.json"));
         this.stage = stage;
         this.game = game;
         this.playScreen = playScreen;
@@ -65,7 +65,7 @@ public class PauseButton extends Button {
     }
 
     private void createMainMenuButton() {
-        mainMenuButton = new MainMenuButton(new Skin(Gdx.files.internal("UI/mainMenu/mainMenuButton.json")));
+        mainMenuButton = new MainMenuButton(GameAssets.getInstance().getSkin("UI/mainMenu/mainMenuButton.json"));
         mainMenuButton.setVisible(false);
         mainMenuButton.addListener(new ChangeListener() {
             @Override
@@ -80,9 +80,9 @@ public class PauseButton extends Button {
         pauseMenu = new Table();
         pauseMenu.setVisible(false);
         
-        Button resumeButton = new Button(new Skin(Gdx.files.internal("UI/resume/resumeButton.json")));
-        Button settingsButton = new Button(new Skin(Gdx.files.internal("UI/settings/settingsButton.json")));
-        Button mainMenuButton = new Button(new Skin(Gdx.files.internal("UI/mainMenu/mainMenuButton.json")));
+        Button resumeButton = new Button(GameAssets.getInstance().getSkin("UI/resume/resumeButton.json"));
+        Button settingsButton = new Button(GameAssets.getInstance().getSkin("UI/settings/settingsButton.json"));
+        Button mainMenuButton = new Button(GameAssets.getInstance().getSkin("UI/mainMenu/mainMenuButton.json"));
         
         resumeButton.addListener(new ChangeListener() {
             @Override
@@ -3,9 +3,9 @@ import com.badlogic.gdx.Game;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.ui.Button;
-import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
 
+import io.github.HustSavior.assets.GameAssets;
 import io.github.HustSavior.Play;
 import io.github.HustSavior.sound.MusicPlayer;
 
@@ -14,7 +14,7 @@ public class PlayButton extends Button {
     private Game game;
 
     public PlayButton(Game game) {
-        super(new Skin(Gdx.files.internal("UI/play/play.json")));
+        super(GameAssets.getInstance().getSkin("UI/play/play.json"));
         this.game = game;
         
         // Set size maintaining aspect ratio
@@ -1,12 +1,12 @@
 package io.github.HustSavior.ui;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener;
 import com.badlogic.gdx.scenes.scene2d.Actor;
+import io.github.HustSavior.assets.GameAssets;
 import io.github.HustSavior.utils.ResolutionManager;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 
@@ -17,8 +17,8 @@ public class ResolutionControl {
     private Table parentTable;
 
     public ResolutionControl() {
-        resolutionLabel = new Label("Resolution:", new Skin(Gdx.files.internal("UI/resolution/resolutionLabel.json")));
-        Skin skin = new Skin(Gdx.files.internal("UI/resolution/resolutionLabel.json"));
+        resolutionLabel = new Label("Resolution:", GameAssets.getInstance().getSkin("UI/resolution/resolutionLabel.json"));
+        Skin skin = GameAssets.getInstance().getSkin("UI/resolution/resolutionLabel.json");
         
         btn1080p = new TextButton("1920x1080", skin);
         btn900p = new TextButton("1600x900", skin);
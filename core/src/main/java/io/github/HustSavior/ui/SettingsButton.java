@@ -4,9 +4,10 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Button;
-import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
 
+import io.github.HustSavior.assets.GameAssets;
+
 public class SettingsButton extends Button {
 
     private String name = "settings";
@@ -14,7 +15,7 @@ public class SettingsButton extends Button {
     private Stage stage;
 
     public SettingsButton(Stage stage) {
-        super(new Skin(Gdx.files.internal("UI/settings/settingsButton.json")));
+        super(GameAssets.getInstance().getSkin("UI/settings/settingsButton.json"));
         this.stage = stage;
         
         // Reduced scale factor
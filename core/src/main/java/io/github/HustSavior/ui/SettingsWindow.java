@@ -9,6 +9,7 @@ import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.scenes.scene2d.ui.Window;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
+import io.github.HustSavior.assets.GameAssets;
 import io.github.HustSavior.utils.ResolutionManager;
 
 public class SettingsWindow extends Window {
@@ -16,7 +17,7 @@ public class SettingsWindow extends Window {
     private ResolutionControl resolutionControl;
 
     public SettingsWindow(Stage stage) {
-        super("Settings", new Skin(Gdx.files.internal("UI/settings/settingsWindow.json")));
+        super("Settings", GameAssets.getInstance().getSkin("UI/settings/settingsWindow.json"));
         if (stage == null) {
             throw new IllegalArgumentException("Stage cannot be null");
         }
@@ -87,7 +88,7 @@ public class SettingsWindow extends Window {
     }
 
     private void addCloseButton(Table table) {
-        Skin closeButtonSkin = new Skin(Gdx.files.internal("UI/settings/closeButton.json"));
+        Skin closeButtonSkin = GameAssets.getInstance().getSkin("UI/settings/closeButton.json");
         Button closeButton = new Button(closeButtonSkin);
         closeButton.addListener(new ClickListener() {
             @Override
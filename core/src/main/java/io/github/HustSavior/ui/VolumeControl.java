@@ -1,11 +1,11 @@
 package io.github.HustSavior.ui;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
 import com.badlogic.gdx.scenes.scene2d.ui.Button;
+import io.github.HustSavior.assets.GameAssets;
 import io.github.HustSavior.sound.SoundManager;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
@@ -35,12 +35,12 @@ public class VolumeControl {
 
     public VolumeControl() {
         // Different skins for each control type
-        Skin masterSkin = new Skin(Gdx.files.internal("UI/volume/master/masterVolumeControl.json"));
-        Skin musicSkin = new Skin(Gdx.files.internal("UI/volume/music/musicVolumeControl.json"));
-        Skin sfxSkin = new Skin(Gdx.files.internal("UI/volume/sfx/sfxVolumeControl.json"));
-       // Skin increaseSkin = new Skin(Gdx.files.internal("UI/volume/increase/increaseVolumeControl.json"));
-       // Skin decreaseSkin = new Skin(Gdx.files.internal("UI/volume/decrease/decreaseVolumeControl.json"));
-       // Skin muteSkin = new Skin(Gdx.files.internal("UI/volume/mute/muteVolumeControl.json"));
+        Skin masterSkin = GameAssets.getInstance().getSkin("UI/volume/master/masterVolumeControl.json");
+        Skin musicSkin = GameAssets.getInstance().getSkin("UI/volume/music/musicVolumeControl.json");
+        Skin sfxSkin = GameAssets.getInstance().getSkin("UI/volume/sfx/sfxVolumeControl.json");
+       // Skin increaseSkin = GameAssets.getInstance().getSkin("UI/volume/increase/increaseVolumeControl.json");
+       // Skin decreaseSkin = GameAssets.getInstance().getSkin("UI/volume/decrease/decreaseVolumeControl.json");
+       // Skin muteSkin = GameAssets.getInstance().getSkin("UI/volume/mute/muteVolumeControl.json");
         // Master volume controls
         masterVolumeLabel = new Label("Master Volume:", masterSkin);
         masterVolumeValue = new Label("100%", masterSkin);
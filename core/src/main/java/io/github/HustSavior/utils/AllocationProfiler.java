@@ -0,0 +1,170 @@
+package io.github.HustSavior.utils;
+
+import java.lang.management.ManagementFactory;
+
+import com.badlogic.gdx.Gdx;
+
+/**
+ * Opt-in allocation counter for the game loop, based on the per-thread allocated
+ * byte counter of the HotSpot ThreadMXBean. Sections are measured flat (not nested)
+ * on the render thread and summed per frame.
+ *
+ * Enable with -Dhustsavior.profileAllocations=true. With
+ * -Dhustsavior.tickAllocationBudget=N every tick after the warm-up that allocates
+ * more than N bytes is reported, and -Dhustsavior.strictAllocationBudget=true turns
+ * that report into an IllegalStateException. Ticks are measured by
+ * GameSimulation itself, so the game and the headless runner alike are held to
+ * the budget; TickAllocationTest in the headless module runs that gate.
+ */
+public class AllocationProfiler {
+    public enum Section {
+        INPUT, PLAYER, SPAWNING, ENTITIES, PHYSICS, ITEMS, RENDER, UI
+    }
+
+    private static final Section[] SECTIONS = Section.values();
+    private static final int WARMUP_TICKS = 600; // 10 seconds at 60Hz
+
+    private static AllocationProfiler instance;
+
+    private final boolean enabled;
+    private final com.sun.management.ThreadMXBean threadBean;
+    private final long threadId;
+
+    private final long tickBudget;
+    private final boolean strictBudget;
+
+    // Bytes allocated per section in the frame being measured and in the last finished frame
+    private final long[] currentFrame = new long[SECTIONS.length];
+    private final long[] lastFrame = new long[SECTIONS.length];
+    // currentFrame when the tick began, for the tick's own share; a headless run never ends a frame
+    private final long[] tickSectionStart = new long[SECTIONS.length];
+    private long lastFrameTotal;
+    private long frameCount;
+
+    private long sectionStart;
+    private long tickStart;
+    private long tickCount;
+    private long lastTickBytes;
+    private long peakTickBytes;
+    private long ticksOverBudget;
+
+    private AllocationProfiler() {
+        com.sun.management.ThreadMXBean bean = null;
+        if (Boolean.getBoolean("hustsavior.profileAllocations")) {
+            java.lang.management.ThreadMXBean platformBean = ManagementFactory.getThreadMXBean();
+            if (platformBean instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) platformBean).isThreadAllocatedMemorySupported()) {
+                bean = (com.sun.management.ThreadMXBean) platformBean;
+                bean.setThreadAllocatedMemoryEnabled(true);
+            } else {
+                Gdx.app.error("AllocationProfiler", "Thread allocation counters are not supported by this JVM");
+            }
+        }
+        threadBean = bean;
+        enabled = bean != null;
+        threadId = Thread.currentThread().getId();
+        tickBudget = Long.getLong("hustsavior.tickAllocationBudget", -1L);
+        strictBudget = Boolean.getBoolean("hustsavior.strictAllocationBudget");
+    }
+
+    // Must first be called from the render thread, which is the thread that gets measured
+    public static AllocationProfiler getInstance() {
+        if (instance == null) {
+            instance = new AllocationProfiler();
+        }
+        return instance;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    private long allocatedBytes() {
+        return threadBean.getThreadAllocatedBytes(threadId);
+    }
+
+    public void begin(Section section) {
+        if (!enabled) return;
+        sectionStart = allocatedBytes();
+    }
+
+    public void end(Section section) {
+        if (!enabled) return;
+        currentFrame[section.ordinal()] += allocatedBytes() - sectionStart;
+    }
+
+    public void beginTick() {
+        if (!enabled) return;
+        System.arraycopy(currentFrame, 0, tickSectionStart, 0, SECTIONS.length);
+        tickStart = allocatedBytes();
+    }
+
+    public void endTick() {
+        if (!enabled) return;
+        lastTickBytes = allocatedBytes() - tickStart;
+        tickCount++;
+        if (tickCount <= WARMUP_TICKS) return;
+
+        peakTickBytes = Math.max(peakTickBytes, lastTickBytes);
+        if (tickBudget >= 0 && lastTickBytes > tickBudget) {
+            ticksOverBudget++;
+            String message = "Tick " + tickCount + " allocated " + lastTickBytes
+                + " bytes, budget is " + tickBudget + " (" + describeTick() + ")";
+            if (strictBudget) {
+                throw new IllegalStateException(message);
+            }
+            Gdx.app.error("AllocationProfiler", message);
+        }
+    }
+
+    // Publishes the sections of the frame that just ended and starts a new one
+    public void endFrame() {
+        if (!enabled) return;
+        lastFrameTotal = 0;
+        for (int i = 0; i < SECTIONS.length; i++) {
+            lastFrame[i] = currentFrame[i];
+            lastFrameTotal += currentFrame[i];
+            currentFrame[i] = 0;
+        }
+        frameCount++;
+    }
+
+    public long getLastFrameBytes(Section section) {
+        return lastFrame[section.ordinal()];
+    }
+
+    public long getLastFrameTotal() {
+        return lastFrameTotal;
+    }
+
+    public long getLastTickBytes() {
+        return lastTickBytes;
+    }
+
+    public long getPeakTickBytes() {
+        return peakTickBytes;
+    }
+
+    public long getTicksOverBudget() {
+        return ticksOverBudget;
+    }
+
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    public long getFrameCount() {
+        return frameCount;
+    }
+
+    private String describeTick() {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < SECTIONS.length; i++) {
+            long bytes = currentFrame[i] - tickSectionStart[i];
+            if (bytes == 0) continue;
+            if (builder.length() > 0) builder.append(", ");
+            builder.append(SECTIONS[i]).append('=').append(bytes);
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,38 @@
+package io.github.HustSavior.utils;
+
+import java.lang.reflect.Proxy;
+
+import com.badlogic.gdx.graphics.GL20;
+
+/**
+ * A GL20 whose calls do nothing and return zero. The headless backend leaves
+ * Gdx.gl unset, but the player, monsters, skills and items load their textures
+ * when they are created; with this installed they get texture handle 0 and the
+ * pixel data is dropped. Anything that needs real GL answers (shaders, so
+ * SpriteBatch and the map renderer) still fails, which is fine as long as only
+ * the simulation runs. The headless runner, the benchmarks and LevelCompiler
+ * install it; the game never does.
+ */
+public final class NullGL20 {
+    private NullGL20() {
+    }
+
+    public static GL20 create() {
+        return (GL20) Proxy.newProxyInstance(GL20.class.getClassLoader(), new Class<?>[]{GL20.class},
+            (proxy, method, args) -> {
+                if (method.getDeclaringClass() == Object.class) {
+                    switch (method.getName()) {
+                        case "equals": return proxy == args[0];
+                        case "hashCode": return System.identityHashCode(proxy);
+                        default: return "NullGL20";
+                    }
+                }
+                Class<?> type = method.getReturnType();
+                if (type == int.class) return 0;
+                if (type == boolean.class) return false;
+                if (type == float.class) return 0f;
+                if (type == String.class) return "";
+                return null;
+            });
+    }
+}
@@ -0,0 +1,122 @@
+package io.github.HustSavior.utils.log;
+
+import java.io.PrintStream;
+
+/**
+ * Fixed-size ring buffer of log entries drained by a daemon thread. Posting only
+ * fills a preallocated slot under a short lock; formatting and the write to
+ * stdout/stderr happen on the writer thread. When the buffer is full, errors are
+ * written by the posting thread itself; other entries are dropped and the number
+ * of drops is written once there is room again.
+ */
+class AsyncLogSink {
+    private static final int CAPACITY = 1024;
+
+    private static class Entry {
+        int level;
+        String tag;
+        String message;
+        Throwable throwable;
+    }
+
+    private final Entry[] entries = new Entry[CAPACITY];
+    private final Object lock = new Object();
+    private int head = 0; // Next entry to write out
+    private int size = 0;
+    private int dropped = 0;
+    private boolean writing = false;
+    private Thread writer;
+
+    AsyncLogSink() {
+        for (int i = 0; i < CAPACITY; i++) {
+            entries[i] = new Entry();
+        }
+    }
+
+    void post(int level, String tag, String message, Throwable throwable) {
+        synchronized (lock) {
+            if (writer == null) {
+                writer = new Thread(this::drain, "GameLog");
+                writer.setDaemon(true);
+                writer.start();
+            }
+            if (size < CAPACITY) {
+                Entry entry = entries[(head + size) % CAPACITY];
+                entry.level = level;
+                entry.tag = tag;
+                entry.message = message;
+                entry.throwable = throwable;
+                size++;
+                lock.notifyAll();
+                return;
+            }
+            if (level != GameLog.LEVEL_ERROR) {
+                dropped++;
+                return;
+            }
+        }
+        // Full, and an error: blocking the caller beats losing it
+        write(level, tag, message, throwable);
+    }
+
+    void flush() {
+        synchronized (lock) {
+            while ((size > 0 || writing) && writer != null) {
+                try {
+                    lock.wait(100);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            int level;
+            String tag;
+            String message;
+            Throwable throwable;
+            int droppedSoFar;
+
+            synchronized (lock) {
+                writing = false;
+                lock.notifyAll(); // Wake flush() callers
+                while (size == 0) {
+                    try {
+                        lock.wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                Entry entry = entries[head];
+                level = entry.level;
+                tag = entry.tag;
+                message = entry.message;
+                throwable = entry.throwable;
+                entry.tag = null;
+                entry.message = null;
+                entry.throwable = null;
+                head = (head + 1) % CAPACITY;
+                size--;
+                droppedSoFar = dropped;
+                dropped = 0;
+                writing = true;
+            }
+
+            if (droppedSoFar > 0) {
+                System.err.println("GameLog: log buffer full, dropped " + droppedSoFar + " messages");
+            }
+            write(level, tag, message, throwable);
+        }
+    }
+
+    private static void write(int level, String tag, String message, Throwable throwable) {
+        PrintStream out = level == GameLog.LEVEL_ERROR ? System.err : System.out;
+        out.println(tag + ": " + message);
+        if (throwable != null) {
+            throwable.printStackTrace(out);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package io.github.HustSavior.utils.log;
+
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * Leveled, rate-limited logging for code that runs every tick.
+ *
+ * {@link #LEVEL} is a compile-time constant, so a call wrapped in
+ * {@code if (GameLog.DEBUG) ...} is removed by javac together with its string
+ * concatenation when debug logging is off. Each tag may log at most
+ * {@link #MAX_MESSAGES_PER_SECOND} messages per second; the rest are counted and
+ * reported once the window rolls over. Messages are handed to an
+ * {@link AsyncLogSink}, so the game thread never blocks on stdout.
+ */
+public final class GameLog {
+    public static final int LEVEL_NONE = 0;
+    public static final int LEVEL_ERROR = 1;
+    public static final int LEVEL_INFO = 2;
+    public static final int LEVEL_DEBUG = 3;
+
+    // Change and rebuild to get debug output; everything above this level is compiled out
+    public static final int LEVEL = LEVEL_INFO;
+
+    public static final boolean ERROR = LEVEL >= LEVEL_ERROR;
+    public static final boolean INFO = LEVEL >= LEVEL_INFO;
+    public static final boolean DEBUG = LEVEL >= LEVEL_DEBUG;
+
+    public static final int MAX_MESSAGES_PER_SECOND = 10;
+    private static final long WINDOW_NANOS = 1_000_000_000L;
+
+    // Per-tag rate limit window
+    private static class TagWindow {
+        long windowStart;
+        int messages;
+        int suppressed;
+    }
+
+    private static final ObjectMap<String, TagWindow> windows = new ObjectMap<>();
+    private static final AsyncLogSink sink = new AsyncLogSink();
+
+    private GameLog() {
+    }
+
+    public static void debug(String tag, String message) {
+        if (DEBUG) write(LEVEL_DEBUG, tag, message, null);
+    }
+
+    public static void info(String tag, String message) {
+        if (INFO) write(LEVEL_INFO, tag, message, null);
+    }
+
+    public static void error(String tag, String message) {
+        if (ERROR) write(LEVEL_ERROR, tag, message, null);
+    }
+
+    public static void error(String tag, String message, Throwable throwable) {
+        if (ERROR) write(LEVEL_ERROR, tag, message, throwable);
+    }
+
+    // Blocks until everything logged so far is written; for shutdown and crash paths
+    public static void flush() {
+        sink.flush();
+    }
+
+    private static synchronized void write(int level, String tag, String message, Throwable throwable) {
+        long now = System.nanoTime();
+        TagWindow window = windows.get(tag);
+        if (window == null) {
+            window = new TagWindow();
+            window.windowStart = now;
+            windows.put(tag, window);
+        }
+
+        if (now - window.windowStart >= WINDOW_NANOS) {
+            if (window.suppressed > 0) {
+                sink.post(LEVEL_INFO, tag, "(" + window.suppressed + " messages suppressed)", null);
+            }
+            window.windowStart = now;
+            window.messages = 0;
+            window.suppressed = 0;
+        }
+
+        // Errors are never rate-limited, nor dropped by a full sink
+        if (level != LEVEL_ERROR && window.messages >= MAX_MESSAGES_PER_SECOND) {
+            window.suppressed++;
+            return;
+        }
+        window.messages++;
+        sink.post(level, tag, message, throwable);
+    }
+}
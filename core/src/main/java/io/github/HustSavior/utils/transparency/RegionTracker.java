@@ -0,0 +1,124 @@
+package io.github.HustSavior.utils.transparency;
+
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.MapObject;
+import com.badlogic.gdx.maps.objects.RectangleMapObject;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * Tracks which of a fixed set of layers the player is "inside" of, based on the
+ * rectangles of their bounds layers. The rectangles are flattened once into
+ * region -> layer arrays. An update only recomputes membership when the player
+ * moved, changes a layer's target opacity on enter/exit, and then tweens just the
+ * layers that are still fading.
+ */
+class RegionTracker {
+    private final MapLayer[] layers;
+    private final float insideAlpha;
+    private final float outsideAlpha;
+    private final float fadeSpeed; // Alpha units per second
+
+    // Region r covers regions[r * 4 .. r * 4 + 3] = minX, minY, maxX, maxY and belongs to regionLayer[r]
+    private final float[] regions;
+    private final int[] regionLayer;
+
+    private final boolean[] inside;
+    private final boolean[] insideScratch;
+    private final float[] targetAlpha;
+    private final IntArray fading = new IntArray();
+
+    private float lastX = Float.NaN;
+    private float lastY = Float.NaN;
+
+    /**
+     * @param layers       layers whose opacity is driven; null entries are ignored
+     * @param boundsLayers bounds layer of each entry in layers; null entries are ignored
+     * @param buffer       pixels added around every bounds rectangle
+     * @param fadeDuration seconds for a full fade between the two alphas, 0 for instant
+     */
+    RegionTracker(MapLayer[] layers, MapLayer[] boundsLayers, float buffer,
+                  float insideAlpha, float outsideAlpha, float fadeDuration) {
+        this.layers = layers;
+        this.insideAlpha = insideAlpha;
+        this.outsideAlpha = outsideAlpha;
+        this.fadeSpeed = fadeDuration > 0 ? Math.abs(outsideAlpha - insideAlpha) / fadeDuration : Float.MAX_VALUE;
+
+        FloatArray bounds = new FloatArray();
+        IntArray owners = new IntArray();
+        for (int i = 0; i < layers.length; i++) {
+            if (layers[i] == null || boundsLayers[i] == null) continue;
+            for (MapObject object : boundsLayers[i].getObjects()) {
+                if (!(object instanceof RectangleMapObject)) continue;
+                Rectangle rect = ((RectangleMapObject) object).getRectangle();
+                bounds.add(rect.x - buffer, rect.y - buffer, rect.x + rect.width + buffer, rect.y + rect.height + buffer);
+                owners.add(i);
+            }
+        }
+        regions = bounds.toArray();
+        regionLayer = owners.toArray();
+
+        inside = new boolean[layers.length];
+        insideScratch = new boolean[layers.length];
+        targetAlpha = new float[layers.length];
+        for (int i = 0; i < layers.length; i++) {
+            targetAlpha[i] = outsideAlpha;
+            if (layers[i] != null) {
+                layers[i].setOpacity(outsideAlpha);
+            }
+        }
+    }
+
+    void update(float x, float y, float delta) {
+        if (x != lastX || y != lastY) {
+            lastX = x;
+            lastY = y;
+            updateMembership(x, y);
+        }
+        tween(delta);
+    }
+
+    private void updateMembership(float x, float y) {
+        boolean[] now = insideScratch;
+        for (int i = 0; i < now.length; i++) {
+            now[i] = false;
+        }
+        for (int r = 0, b = 0; r < regionLayer.length; r++, b += 4) {
+            if (x >= regions[b] && x <= regions[b + 2] && y >= regions[b + 1] && y <= regions[b + 3]) {
+                now[regionLayer[r]] = true;
+            }
+        }
+
+        // Only enter/exit transitions touch the layers
+        for (int i = 0; i < now.length; i++) {
+            if (now[i] == inside[i]) continue;
+            inside[i] = now[i];
+            targetAlpha[i] = now[i] ? insideAlpha : outsideAlpha;
+            if (!fading.contains(i)) {
+                fading.add(i);
+            }
+        }
+    }
+
+    private void tween(float delta) {
+        for (int f = fading.size - 1; f >= 0; f--) {
+            int i = fading.get(f);
+            MapLayer layer = layers[i];
+            float alpha = layer.getOpacity();
+            float step = fadeSpeed * delta;
+            float target = targetAlpha[i];
+            alpha = alpha < target ? Math.min(target, alpha + step) : Math.max(target, alpha - step);
+            layer.setOpacity(alpha);
+            if (MathUtils.isEqual(alpha, target)) {
+                layer.setOpacity(target);
+                fading.removeIndex(f);
+            }
+        }
+    }
+
+    boolean isInside(int layerIndex) {
+        return inside[layerIndex];
+    }
+}
@@ -8,15 +8,17 @@ import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.World;
 
+import io.github.HustSavior.collision.CollisionCategory;
+
 public abstract class TransparencyManager {
     protected static final float TRANSPARENT_ALPHA = 0.3f;
     protected static final float OPAQUE_ALPHA = 1.0f;
     protected static final float PLAYER_TRANSPARENT_ALPHA = 0.5f;
     protected static final float PLAYER_OPAQUE_ALPHA = 1.0f;
     protected static final String BOUNDS_SUFFIX = "_bounds";
-    protected static final short TRANSPARENCY_BOUNDS_BITS = 0x0004;
-    protected static final short MONSTER_CATEGORY = 0x0002;
-    protected static final short PLAYER_CATEGORY = 0x0001;
+    protected static final short TRANSPARENCY_BOUNDS_BITS = CollisionCategory.TRANSPARENCY_BOUNDS;
+    protected static final short MONSTER_CATEGORY = CollisionCategory.MONSTER;
+    protected static final short PLAYER_CATEGORY = CollisionCategory.PLAYER;
     
     protected final TiledMap map;
     protected final World world;
@@ -0,0 +1,32 @@
+package io.github.HustSavior.headless;
+
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+
+/**
+ * Runs the game simulation without a window, as fast as the CPU allows.
+ *
+ * Options:
+ * --seconds N  simulated seconds to run (default 600)
+ * --script F   input script, an assets path or a classpath resource (default scripts/wander.txt)
+ * --seed N     seed for MathUtils.random, for repeatable runs
+ */
+public class HeadlessLauncher {
+    public static void main(String[] args) {
+        float seconds = 600;
+        String script = SimulationRunner.DEFAULT_SCRIPT;
+        long seed = System.nanoTime();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--seconds": seconds = Float.parseFloat(args[i + 1]); break;
+                case "--script": script = args[i + 1]; break;
+                case "--seed": seed = Long.parseLong(args[i + 1]); break;
+                default: throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+
+        HeadlessApplicationConfiguration configuration = new HeadlessApplicationConfiguration();
+        configuration.updatesPerSecond = 0; // Unthrottled; every update is one fixed simulation tick
+        new HeadlessApplication(new SimulationRunner(seconds, script, seed), configuration);
+    }
+}
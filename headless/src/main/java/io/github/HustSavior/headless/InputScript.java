@@ -0,0 +1,89 @@
+package io.github.HustSavior.headless;
+
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.InputProcessor;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.BooleanArray;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * Key presses on a timeline, fed to an InputProcessor in place of a keyboard.
+ *
+ * One event per line, "time action key": time in simulated seconds, action one
+ * of down, up or tap (down and up in the same tick), key a name as printed by
+ * Input.Keys.toString, such as D or Space. Events must be in time order. A
+ * "loop T" line replays the script every T seconds. Blank lines and lines
+ * starting with # are ignored.
+ */
+public class InputScript {
+    private final FloatArray times = new FloatArray();
+    private final IntArray keys = new IntArray();
+    private final BooleanArray downs = new BooleanArray();
+    private float loopLength; // 0 plays the script once
+
+    private float time;
+    private int next;
+
+    public static InputScript load(FileHandle file) {
+        InputScript script = new InputScript();
+        String[] lines = file.readString("UTF-8").split("\n");
+        for (int i = 0; i < lines.length; i++) {
+            String line = lines[i].trim();
+            if (line.isEmpty() || line.startsWith("#")) continue;
+            String[] parts = line.split("\\s+");
+            try {
+                script.parse(parts);
+            } catch (RuntimeException e) {
+                throw new GdxRuntimeException(file.path() + ":" + (i + 1) + ": cannot read \"" + line + "\"", e);
+            }
+        }
+        return script;
+    }
+
+    private void parse(String[] parts) {
+        if (parts[0].equals("loop")) {
+            loopLength = Float.parseFloat(parts[1]);
+            return;
+        }
+        float at = Float.parseFloat(parts[0]);
+        if (times.size > 0 && at < times.peek()) {
+            throw new IllegalArgumentException("event before the previous one");
+        }
+        int key = Input.Keys.valueOf(parts[2]);
+        if (key == -1) throw new IllegalArgumentException("unknown key " + parts[2]);
+        switch (parts[1]) {
+            case "down": add(at, key, true); break;
+            case "up": add(at, key, false); break;
+            case "tap": add(at, key, true); add(at, key, false); break;
+            default: throw new IllegalArgumentException("unknown action " + parts[1]);
+        }
+    }
+
+    private void add(float at, int key, boolean down) {
+        times.add(at);
+        keys.add(key);
+        downs.add(down);
+    }
+
+    /** Advances the script clock and sends every event that has come due. */
+    public void update(float delta, InputProcessor input) {
+        time += delta;
+        while (true) {
+            if (next == times.size) {
+                if (loopLength <= 0 || time < loopLength) return;
+                time -= loopLength;
+                next = 0;
+                continue;
+            }
+            if (times.get(next) > time) return;
+            if (downs.get(next)) {
+                input.keyDown(keys.get(next));
+            } else {
+                input.keyUp(keys.get(next));
+            }
+            next++;
+        }
+    }
+}
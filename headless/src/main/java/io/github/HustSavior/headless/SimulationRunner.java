@@ -0,0 +1,159 @@
+package io.github.HustSavior.headless;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.TimeUtils;
+
+import io.github.HustSavior.entities.Player;
+import io.github.HustSavior.items.Item;
+import io.github.HustSavior.simulation.GameSimulation;
+import io.github.HustSavior.utils.NullGL20;
+
+/**
+ * Drives a {@link GameSimulation} one fixed tick per update with scripted input.
+ * Item pickups are accepted at once, there is nobody to click the dialog. Logs
+ * progress every simulated minute and a summary when the time or the tick limit
+ * is up, the player dies or the simulation throws.
+ */
+public class SimulationRunner extends ApplicationAdapter implements GameSimulation.Listener {
+    public static final String DEFAULT_SCRIPT = "scripts/wander.txt";
+
+    private static final String TAG = "Headless";
+    private static final float FIXED_TIME_STEP = 1/60f; // Same step as Play
+    private static final float REPORT_INTERVAL = 60f;
+
+    private final float seconds;
+    private final String scriptPath;
+    private final long seed;
+
+    private GameSimulation simulation;
+    private InputScript script;
+
+    private int tickLimit = Integer.MAX_VALUE;
+    private int ticks;
+    private long startNanos;
+    private long tickNanos;
+    private long slowestTickNanos;
+    private float nextReport = REPORT_INTERVAL;
+    private boolean finished; // exit() takes effect after the current update, render() may run once more
+
+    public SimulationRunner(float seconds, String scriptPath, long seed) {
+        this.seconds = seconds;
+        this.scriptPath = scriptPath;
+        this.seed = seed;
+    }
+
+    // Stops after this many ticks even if the simulated time is not up yet
+    public void setTickLimit(int tickLimit) {
+        this.tickLimit = tickLimit;
+    }
+
+    public int getTicks() {
+        return ticks;
+    }
+
+    public GameSimulation getSimulation() {
+        return simulation;
+    }
+
+    @Override
+    public void create() {
+        Gdx.gl = Gdx.gl20 = NullGL20.create();
+        MathUtils.random.setSeed(seed);
+
+        try {
+            FileHandle scriptFile = Gdx.files.internal(scriptPath);
+            if (!scriptFile.exists()) {
+                scriptFile = Gdx.files.classpath(scriptPath);
+            }
+            script = InputScript.load(scriptFile);
+
+            long loadStart = TimeUtils.nanoTime();
+            simulation = new GameSimulation(null, this);
+            Gdx.app.log(TAG, String.format("Loaded in %d ms, seed %d, script %s",
+                TimeUtils.nanosToMillis(TimeUtils.timeSinceNanos(loadStart)), seed, scriptFile.path()));
+        } catch (Throwable e) {
+            fail(e);
+            throw e;
+        }
+        startNanos = TimeUtils.nanoTime();
+    }
+
+    @Override
+    public void render() {
+        if (finished) return;
+        Player player = simulation.getPlayer();
+        if (simulation.getElapsedTime() >= seconds || ticks >= tickLimit || !player.isAlive()) {
+            finish();
+            return;
+        }
+
+        long tickStart = TimeUtils.nanoTime();
+        try {
+            script.update(FIXED_TIME_STEP, simulation.getInputHandler());
+            simulation.tick(FIXED_TIME_STEP);
+        } catch (Throwable e) {
+            fail(e);
+            throw e;
+        }
+        long tickTime = TimeUtils.timeSinceNanos(tickStart);
+        tickNanos += tickTime;
+        slowestTickNanos = Math.max(slowestTickNanos, tickTime);
+        ticks++;
+
+        if (simulation.getElapsedTime() >= nextReport) {
+            nextReport += REPORT_INTERVAL;
+            Gdx.app.log(TAG, String.format("t=%.0fs monsters=%d bullets=%d hp=%.0f level=%d avg tick=%.3f ms",
+                simulation.getElapsedTime(), simulation.getMonsters().size(),
+                simulation.getBulletManager().getBulletCount(), player.getHealth(), player.getLevel(),
+                tickNanos / 1e6 / ticks));
+        }
+    }
+
+    private void finish() {
+        finished = true;
+        float wallSeconds = TimeUtils.timeSinceNanos(startNanos) / 1e9f;
+        float simulated = simulation.getElapsedTime();
+        Gdx.app.log(TAG, String.format("%s after %d ticks: %.1f s simulated in %.1f s (%.1fx real time)",
+            simulation.getPlayer().isAlive() ? "Done" : "Player died", ticks, simulated, wallSeconds,
+            simulated / Math.max(wallSeconds, 1e-3f)));
+        Gdx.app.log(TAG, String.format("Tick avg %.3f ms, slowest %.3f ms",
+            ticks == 0 ? 0 : tickNanos / 1e6 / ticks, slowestTickNanos / 1e6));
+        Gdx.app.exit();
+        finished(null);
+    }
+
+    private void fail(Throwable failure) {
+        finished = true;
+        Gdx.app.error(TAG, "Simulation failed after " + ticks + " ticks", failure);
+        Gdx.app.exit();
+        finished(failure);
+    }
+
+    /**
+     * Called once on the simulation thread when the run ends, with what it threw
+     * or null. The simulation is not disposed yet. Does nothing by default.
+     */
+    protected void finished(Throwable failure) {
+    }
+
+    @Override
+    public void onItemPickup(Item item, Runnable collect) {
+        collect.run();
+        Gdx.app.log(TAG, "Picked up " + item.getClass().getSimpleName());
+    }
+
+    @Override
+    public void onInfected() {
+        Gdx.app.log(TAG, String.format("Infected at t=%.0fs", simulation.getElapsedTime()));
+    }
+
+    @Override
+    public void dispose() {
+        if (simulation != null) {
+            simulation.dispose();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package io.github.HustSavior.headless;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+
+import io.github.HustSavior.utils.AllocationProfiler;
+
+/**
+ * Fails when a steady-state simulation tick allocates more than the budget:
+ * {@link #DEFAULT_BUDGET} bytes, or -PtickAllocationBudget=N on the build.
+ * Ticks before AllocationProfiler's warm-up do not count.
+ */
+public class TickAllocationTest {
+    private static final int TICKS = 600 + 1800; // The profiler's warm-up, then 30 s measured
+    private static final long SEED = 1;
+    // The steady state peaks at about 2.3 KB on the 30 s level-up, which logs the new level;
+    // no other tick reaches 1 KB
+    private static final String DEFAULT_BUDGET = "4096";
+
+    @BeforeClass
+    public static void enableProfiler() {
+        // Read once, by the profiler's constructor on the simulation thread
+        System.setProperty("hustsavior.profileAllocations", "true");
+        System.setProperty("hustsavior.strictAllocationBudget", "true");
+        if (System.getProperty("hustsavior.tickAllocationBudget") == null) {
+            System.setProperty("hustsavior.tickAllocationBudget", DEFAULT_BUDGET);
+        }
+    }
+
+    @Test
+    public void steadyStateTickStaysWithinBudget() throws InterruptedException {
+        TickRunner runner = new TickRunner();
+        runner.setTickLimit(TICKS);
+        HeadlessApplicationConfiguration configuration = new HeadlessApplicationConfiguration();
+        configuration.updatesPerSecond = 0;
+        new HeadlessApplication(runner, configuration);
+
+        assertTrue("Simulation did not finish", runner.done.await(5, TimeUnit.MINUTES));
+        AllocationProfiler profiler = AllocationProfiler.getInstance();
+        assumeTrue("Thread allocation counters are not supported by this JVM", profiler.isEnabled());
+        // Strict mode throws on the first tick over the budget
+        assertNull(runner.failure == null ? null : runner.failure.getMessage(), runner.failure);
+        assertTrue("Player died after " + runner.getTicks() + " of " + TICKS
+            + " ticks, the script no longer survives the measured window", runner.playerAlive);
+        assertEquals(TICKS, profiler.getTickCount());
+        assertEquals(0, profiler.getTicksOverBudget());
+    }
+
+    // Hands the end of the run to the test thread
+    private static class TickRunner extends SimulationRunner {
+        final CountDownLatch done = new CountDownLatch(1);
+        volatile Throwable failure;
+        volatile boolean playerAlive;
+
+        TickRunner() {
+            super(Float.MAX_VALUE, DEFAULT_SCRIPT, SEED);
+        }
+
+        @Override
+        protected void finished(Throwable failure) {
+            this.failure = failure;
+            playerAlive = getSimulation() != null && getSimulation().getPlayer().isAlive();
+            done.countDown();
+        }
+    }
+}
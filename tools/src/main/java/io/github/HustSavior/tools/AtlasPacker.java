@@ -0,0 +1,125 @@
+package io.github.HustSavior.tools;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import javax.imageio.ImageIO;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.tools.texturepacker.TexturePacker;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Json;
+
+import io.github.HustSavior.assets.GameAssets;
+import io.github.HustSavior.ecs.MonsterType;
+import io.github.HustSavior.ecs.MonsterTypes;
+import io.github.HustSavior.entities.MonsterAnimationRegistry;
+
+/**
+ * Packs the sprites drawn during play into the atlases GameAssets resolves
+ * regions from. Run from the assets directory:
+ *
+ * AtlasPacker [--mipmaps]
+ *
+ * The build runs it through the tools:packAtlases task.
+ */
+public class AtlasPacker {
+    public static void main(String[] args) throws IOException {
+        boolean mipmaps = args.length > 0 && args[0].equals("--mipmaps");
+        File assets = new File(".").getCanonicalFile();
+
+        // Drawn at the size of their region by Sprites, Images and the skills, so not trimmed
+        TexturePacker game = new TexturePacker(settings(false, mipmaps));
+        List<String> sprites = new ArrayList<>();
+        collect(assets, "", sprites);
+        Collections.sort(sprites);
+        for (String path : sprites) {
+            game.addImage(ImageIO.read(new File(assets, path)), GameAssets.regionName(path));
+        }
+        pack(game, GameAssets.GAME_ATLAS);
+
+        // Cut into frames here, and trimmed: the frames are mostly transparent border
+        TexturePacker monsters = new TexturePacker(settings(true, mipmaps));
+        int frames = 0;
+        for (MonsterType type : readMonsterTypes(new File(assets, MonsterTypes.DATA_FILE))) {
+            MonsterType.Sheets sheets = type.sheets;
+            for (MonsterType.Sheet sheet : new MonsterType.Sheet[] { sheets.idle, sheets.run, sheets.attack, sheets.takeHit, sheets.death }) {
+                if (sheet == null) continue; // No run sheet
+                BufferedImage image = ImageIO.read(new File(assets, MonsterAnimationRegistry.sheetPath(type.name, sheet)));
+                int frameWidth = image.getWidth() / sheet.frames;
+                for (int i = 0; i < sheet.frames; i++) {
+                    BufferedImage frame = image.getSubimage(i * frameWidth, 0, frameWidth, image.getHeight());
+                    monsters.addImage(frame, MonsterAnimationRegistry.regionName(type.name, sheet) + "_" + i);
+                    frames++;
+                }
+            }
+        }
+        pack(monsters, GameAssets.MONSTER_ATLAS);
+
+        System.out.println("AtlasPacker: " + sprites.size() + " sprites, " + frames + " monster frames"
+            + (mipmaps ? ", with mipmaps" : ""));
+    }
+
+    private static TexturePacker.Settings settings(boolean trim, boolean mipmaps) {
+        TexturePacker.Settings settings = new TexturePacker.Settings();
+        settings.maxWidth = 2048;
+        settings.maxHeight = 2048;
+        settings.paddingX = 2;
+        settings.paddingY = 2;
+        // Pixel art; with scaling or mipmaps the border texels keep neighbours from bleeding in
+        settings.duplicatePadding = true;
+        settings.edgePadding = true;
+        settings.rotation = false;
+        settings.stripWhitespaceX = trim;
+        settings.stripWhitespaceY = trim;
+        // An empty frame still needs its index, or the animation comes out short
+        settings.ignoreBlankImages = false;
+        // Only the monster frames carry an index; shield_effect_1 is a name
+        settings.useIndexes = trim;
+        settings.filterMin = mipmaps ? Texture.TextureFilter.MipMapNearestNearest : Texture.TextureFilter.Nearest;
+        settings.filterMag = Texture.TextureFilter.Nearest;
+        settings.silent = true;
+        return settings;
+    }
+
+    private static void collect(File dir, String prefix, List<String> paths) {
+        File[] files = dir.listFiles();
+        if (files == null) return;
+        for (File file : files) {
+            String path = prefix + file.getName();
+            if (file.isDirectory()) {
+                collect(file, path + "/", paths);
+            } else if (GameAssets.GAME_ATLAS.equals(GameAssets.atlasOf(path))) {
+                paths.add(path);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Array<MonsterType> readMonsterTypes(File file) {
+        return new Json().fromJson(Array.class, MonsterType.class, new FileHandle(file));
+    }
+
+    private static void pack(TexturePacker packer, String atlasPath) {
+        File atlas = new File(atlasPath);
+        String name = atlas.getName();
+        name = name.substring(0, name.lastIndexOf('.'));
+        // TexturePacker appends to an existing pack file, and a smaller pack leaves pages behind
+        File[] old = atlas.getParentFile().listFiles();
+        if (old != null) {
+            for (File file : old) {
+                String fileName = file.getName();
+                if (fileName.equals(atlas.getName()) || fileName.matches(Pattern.quote(name) + "\\d*\\.png")) {
+                    file.delete();
+                }
+            }
+        }
+        packer.pack(atlas.getParentFile(), name);
+    }
+}
@@ -0,0 +1,73 @@
+package io.github.HustSavior.tools;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TmxMapLoader;
+import com.badlogic.gdx.utils.TimeUtils;
+
+import io.github.HustSavior.map.LevelFile;
+import io.github.HustSavior.utils.NullGL20;
+
+/**
+ * Compiles a TMX map into the level file GameMap loads in its place, see
+ * {@link LevelFile}. Run from the assets directory:
+ *
+ * LevelCompiler map/map.tmx [map/map.level]
+ *
+ * The build runs it through the tools:compileLevel task.
+ */
+public class LevelCompiler extends ApplicationAdapter {
+    private static final String TAG = "LevelCompiler";
+
+    private final String mapPath;
+    private final String levelPath;
+    private boolean failed = true;
+
+    private LevelCompiler(String mapPath, String levelPath) {
+        this.mapPath = mapPath;
+        this.levelPath = levelPath;
+    }
+
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            System.err.println("Usage: LevelCompiler <map.tmx> [<map.level>]");
+            System.exit(2);
+        }
+        String mapPath = args[0];
+        String levelPath = args.length > 1 ? args[1] : LevelFile.levelPath(mapPath);
+
+        new HeadlessApplication(new LevelCompiler(mapPath, levelPath), new HeadlessApplicationConfiguration());
+    }
+
+    @Override
+    public void create() {
+        // TmxMapLoader creates the tileset textures; only their file paths are kept
+        Gdx.gl = Gdx.gl20 = NullGL20.create();
+        try {
+            long start = TimeUtils.nanoTime();
+            FileHandle mapFile = Gdx.files.internal(mapPath);
+            TiledMap map = new TmxMapLoader().load(mapPath);
+            byte[] bytes = LevelFile.compile(map, LevelFile.crc(mapFile));
+            map.dispose();
+
+            FileHandle levelFile = Gdx.files.local(levelPath);
+            levelFile.writeBytes(bytes, false);
+            Gdx.app.log(TAG, String.format("%s (%d KB) -> %s (%d KB) in %d ms", mapFile.path(), mapFile.length() / 1024,
+                levelFile.path(), bytes.length / 1024, TimeUtils.nanosToMillis(TimeUtils.timeSinceNanos(start))));
+            failed = false;
+        } catch (RuntimeException e) {
+            Gdx.app.error(TAG, "Failed to compile " + mapPath, e);
+        }
+        Gdx.app.exit();
+    }
+
+    // Last call on the application thread; the exit code is what the build checks
+    @Override
+    public void dispose() {
+        System.exit(failed ? 1 : 0);
+    }
+}